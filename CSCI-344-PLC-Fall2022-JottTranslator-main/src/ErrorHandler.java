@@ -1,10 +1,10 @@
 package src;
 
+import src.tokenizer.Keywords;
 import src.tokenizer.Token;
+import src.tokenizer.TokenStream;
 import src.tokenizer.TokenType;
 
-import java.util.ArrayList;
-
 import static src.tokenizer.TokenType.*;
 
 public class ErrorHandler {
@@ -22,37 +22,55 @@ public class ErrorHandler {
     }
 
     /**
-     * Prints syntax error details to standard error when
-     * an error in parsing occurs
+     * Stops the parse when an error in parsing occurs. The details are held in the
+     * thrown error rather than printed straight away, and are printed to standard
+     * error by {@link #printErrorParser(ParseSyntaxError)} once the parse has failed
      *
-     * @param message message to print out
+     * @param message message describing the error
      * @param filename name of the file that contains the error causing token
      * @param lineNum line number of the token
      */
-    public static void printErrorParser(String message, String filename, int lineNum) throws ParseSyntaxError{
-        System.err.printf("Syntax Error:%n%s %n%s:%d%n", message, filename, lineNum);
-        throw new ParseSyntaxError("Parse Failed");
+    public static void syntaxError(String message, String filename, int lineNum) throws ParseSyntaxError{
+        throw new ParseSyntaxError(message, filename, lineNum);
     }
 
     /**
-     * Prints syntax error details to standard error when
-     * an error in parsing occurs at a potential end of tokenizer string
+     * Prints syntax error details to standard error for a parse that has failed
+     *
+     * @param error the error that stopped the parse
+     */
+    public static void printErrorParser(ParseSyntaxError error){
+        System.err.printf("Syntax Error:%n%s %n%s:%d%n", error.getMessage(), error.getFilename(), error.getLineNum());
+    }
+
+    /**
+     * Stops the parse unless the next token is of the expected type, including when
+     * there are no tokens left. The next token is not consumed
      *
-     * @param tokens the list of tokens we are parsing
+     * @param tokens the stream of tokens we are parsing
      * @param t the TokenType we expect to see here
      * @param id the token that defines the structure we are evaluating (ex a func def)
-     * @param emptyMessage the message to print if we find out that the set of tokens was empty
-     * @param wrongSymbolMessage the message to print if we find out that the next token is wrong
+     * @param emptyMessage the message of the error if we find out that the set of tokens was empty
+     * @param wrongSymbolMessage the message of the error if we find out that the next token is wrong
      */
-    public static void printErrorParser(ArrayList<Token> tokens, TokenType t, Token id, String emptyMessage, String wrongSymbolMessage) throws ParseSyntaxError{
+    public static void expectToken(TokenStream tokens, TokenType t, Token id, String emptyMessage, String wrongSymbolMessage) throws ParseSyntaxError{
         if(tokens.isEmpty()){
-            printErrorParser(emptyMessage, id.getFilename(), id.getLineNum());
-        }else if(tokens.get(0).getTokenType() != t){
-            wrongSymbolMessage += generateErrorString(tokens.get(0));
-            printErrorParser(wrongSymbolMessage, id.getFilename(), id.getLineNum());
+            syntaxError(emptyMessage, id.getFilename(), id.getLineNum());
+        }else if(tokens.peek().getTokenType() != t){
+            wrongSymbolMessage += generateErrorString(tokens.peek());
+            syntaxError(wrongSymbolMessage, id.getFilename(), id.getLineNum());
         }
     }
 
+    /**
+     * Prints semantic error details to standard error for a program that has failed validation
+     *
+     * @param error the error found in the program
+     */
+    public static void printErrorSemantic(SemanticError error){
+        System.err.printf("Semantic Error:%n%s %n%s:%d%n", error.getMessage(), error.getFilename(), error.getLineNum());
+    }
+
     /**
      * Generates the corresponding string for an incorrect element detected in the token stream
      *
@@ -60,7 +78,7 @@ public class ErrorHandler {
      */
     public static String generateErrorString(Token t){
        if(t.getTokenType() == NUMBER){
-           if(t.getToken().contains(Character.toString('.'))){
+           if(t.isDoubleLiteral()){
                return "double";
            }else{
                return "int";
@@ -68,11 +86,11 @@ public class ErrorHandler {
        }else if(t.getTokenType() == STRING){
            return "string";
        }else if(t.getTokenType() == ID_KEYWORD) {
-           if (t.getToken().matches("True|False")){
+           if (Keywords.isBool(t)){
                return "boolean";
-           }else if (t.getToken().matches("Double|Integer|Boolean|String")){
+           }else if (Keywords.isType(t)){
                return "type";
-           }else if(t.getToken().matches("Void")){
+           }else if(Keywords.isVoid(t)){
                return "Void";
            }else{
                return "id";
@@ -16,17 +16,28 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 
 public class JottParserTester {
+    // how many tokens a program is repeated to, so the parallel parse splits it between threads
+    private static final int PARALLEL_TOKENS = 1 << 16;
+
     ArrayList<TestCase> testCases;
 
     private static class TestCase{
         String testName;
         String fileName;
         boolean error;
+        // how many syntax errors the recovering parse should find, or -1 for any number but 0
+        int syntaxErrors;
 
         public TestCase(String testName, String fileName, boolean error) {
             this.testName = testName;
             this.fileName = fileName;
             this.error = error;
+            this.syntaxErrors = error ? -1 : 0;
+        }
+
+        public TestCase(String testName, String fileName, int syntaxErrors) {
+            this(testName, fileName, true);
+            this.syntaxErrors = syntaxErrors;
         }
     }
 
@@ -67,6 +78,8 @@ public class JottParserTester {
         testCases.add(new TestCase("lone minus (error)", "loneMinus.jott", true ));
         testCases.add(new TestCase("else without if (error)", "elseNoIf.jott", true ));
         testCases.add(new TestCase("missing closing } (error)", "missingClosing.jott", true ));
+        testCases.add(new TestCase("expr cut off at end of file (error)", "relOpAtEof.jott", true ));
+        testCases.add(new TestCase("three errors found in one parse (error)", "multipleErrors.jott", 3 ));
     }
 
     private boolean parserTest(TestCase test, String orginalJottCode){
@@ -83,6 +96,10 @@ public class JottParserTester {
             ArrayList<Token> cpyTokens = new ArrayList<>(tokens);
             JottTree root = JottParser.parse(tokens);
 
+            if (!recoveryTest(test, cpyTokens)) {
+                return false;
+            }
+
             if (!test.error && root == null) {
                 System.err.println("\tFailed Test: " + test.testName);
                 System.err.println("\t\tExpected a JottTree and got null");
@@ -149,7 +166,7 @@ public class JottParserTester {
                     return false;
                 }
             }
-            return true;
+            return parallelTest(test, cpyTokens);
         }catch (Exception e){
             System.err.println("\tFailed Test: " + test.testName);
             System.err.println("Unknown Exception occured.");
@@ -158,6 +175,36 @@ public class JottParserTester {
         }
     }
 
+    private boolean recoveryTest(TestCase test, ArrayList<Token> tokens){
+        ArrayList<ParseSyntaxError> errors = new ArrayList<>();
+        JottParser.parse(new ArrayList<>(tokens), errors);
+        boolean expected = test.syntaxErrors < 0 ? !errors.isEmpty() : errors.size() == test.syntaxErrors;
+        if (!expected) {
+            System.err.println("\tFailed Test: " + test.testName);
+            System.err.println("\t\tExpected " + (test.syntaxErrors < 0 ? "at least 1" : test.syntaxErrors)
+                    + " syntax errors from the recovering parse and got " + errors.size());
+            return false;
+        }
+        return true;
+    }
+
+    private boolean parallelTest(TestCase test, ArrayList<Token> tokens){
+        ArrayList<Token> program = new ArrayList<>();
+        while (program.size() < PARALLEL_TOKENS) {
+            program.addAll(tokens);
+        }
+        JottTree sequential = JottParser.parse(new ArrayList<>(program));
+        JottTree parallel = JottParser.parseParallel(program);
+        if (sequential == null || parallel == null
+                || !parallel.convertToJott().equals(sequential.convertToJott())) {
+            System.err.println("\tFailed Test: " + test.testName);
+            System.err.println("Parallel parse does not match the sequential parse.");
+            System.err.println("Both should give the same tree for the same tokens.");
+            return false;
+        }
+        return true;
+    }
+
     private String tokenListString(ArrayList<Token> tokens){
         StringBuilder sb = new StringBuilder();
         for (Token t: tokens) {
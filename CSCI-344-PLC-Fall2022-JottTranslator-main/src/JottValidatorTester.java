@@ -0,0 +1,122 @@
+/*
+  Jott validator tester. This will test the semantic analysis phase of the
+  Jott project.
+
+  This tester assumes a working and valid tokenizer and parser.
+ */
+
+package src;
+import src.tokenizer.*;
+import src.parser.*;
+
+import java.util.ArrayList;
+
+public class JottValidatorTester {
+    ArrayList<TestCase> testCases;
+
+    private static class TestCase{
+        String testName;
+        String fileName;
+        boolean error;
+        // the message of the first semantic error found, or null if the program is valid
+        String message;
+
+        public TestCase(String testName, String fileName, boolean error, String message) {
+            this.testName = testName;
+            this.fileName = fileName;
+            this.error = error;
+            this.message = message;
+        }
+    }
+
+    private void createTestCases(){
+        this.testCases = new ArrayList<>();
+        testCases.add(new TestCase("hello world", "helloWorld.jott", false, null ));
+        testCases.add(new TestCase("valid while loop", "validLoop.jott", false, null ));
+        testCases.add(new TestCase("provided writeup example1 (error)", "providedExample1.jott", true, "function main missing return" ));
+        testCases.add(new TestCase("return <id> type mismatch (error)", "returnId.jott", true, "return of main expected Integer got Double" ));
+        testCases.add(new TestCase("missing return (error)", "missingReturn.jott", true, "function foo missing return" ));
+        testCases.add(new TestCase("function not defined (error)", "funcNotDefined.jott", true, "function foo not defined" ));
+        testCases.add(new TestCase("mismatch return type (error)", "mismatchedReturn.jott", true, "variable x expected Integer got Double" ));
+        testCases.add(new TestCase("function call param type not matching (error)", "funcCallParamInvalid.jott", true, "foo param 1 expected Double got Integer" ));
+        testCases.add(new TestCase("missing main (error)", "missingMain.jott", true, "missing main function" ));
+        testCases.add(new TestCase("main must be integer (error)", "mainReturnNotInt.jott", true, "main must return Integer got Double" ));
+        testCases.add(new TestCase("i_expr relop d_expr function return (error)", "funcReturnInExpr.jott", true, "< expected Integer got Double" ));
+        testCases.add(new TestCase("while is keyword, cannot be used as id (error)", "whileKeyword.jott", true, "keyword while cannot be used as an id" ));
+        testCases.add(new TestCase("variable used outside its scope (error)", "undefinedVarInScope.jott", true, "variable x not defined" ));
+    }
+
+    private boolean validatorTest(TestCase test){
+        try {
+            ArrayList<Token> tokens = JottTokenizer.tokenize("parserTestCases/" + test.fileName);
+
+            if (tokens == null) {
+                System.err.println("\tFailed Test: " + test.testName);
+                System.err.println("\t\tExpected a list of tokens, but got null");
+                System.err.println("\t\tPlease verify your tokenizer is working properly");
+                return false;
+            }
+            JottTree root = JottParser.parse(tokens);
+
+            if (root == null) {
+                System.err.println("\tFailed Test: " + test.testName);
+                System.err.println("\t\tExpected a JottTree and got null");
+                System.err.println("\t\tPlease verify your parser is working properly");
+                return false;
+            }
+
+            ArrayList<SemanticError> errors = new ArrayList<>();
+            JottValidator.validate((ProgramNode) root, errors);
+            for (SemanticError e : errors) {
+                ErrorHandler.printErrorSemantic(e);
+            }
+
+            if (!test.error && !errors.isEmpty()) {
+                System.err.println("\tFailed Test: " + test.testName);
+                System.err.println("\t\tExpected a valid program and got " + errors.size() + " semantic errors");
+                return false;
+            } else if (test.error && errors.isEmpty()) {
+                System.err.println("\tFailed Test: " + test.testName);
+                System.err.println("\t\tExpected a semantic error and got a valid program");
+                return false;
+            } else if (test.error && !errors.get(0).getMessage().equals(test.message)) {
+                System.err.println("\tFailed Test: " + test.testName);
+                System.err.println("\t\tExpected: " + test.message);
+                System.err.println("\t\tGot     : " + errors.get(0).getMessage());
+                return false;
+            }
+            return true;
+        }catch (Exception e){
+            System.err.println("\tFailed Test: " + test.testName);
+            System.err.println("Unknown Exception occured.");
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    private boolean runTest(TestCase test){
+        System.out.println("Running Test: " + test.testName);
+        return validatorTest(test);
+    }
+
+    public static void main(String[] args) {
+        System.out.println("NOTE: System.err may print at the end. This is fine.");
+        JottValidatorTester tester = new JottValidatorTester();
+
+        int numTests = 0;
+        int passedTests = 0;
+        tester.createTestCases();
+        for(JottValidatorTester.TestCase test: tester.testCases){
+            numTests++;
+            if(tester.runTest(test)){
+                passedTests++;
+                System.out.println("\tPassed\n");
+            }
+            else{
+                System.out.println("\tFailed\n");
+            }
+        }
+
+        System.out.printf("Passed: %d/%d%n", passedTests, numTests);
+    }
+}
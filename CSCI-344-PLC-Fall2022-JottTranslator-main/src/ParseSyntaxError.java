@@ -1,8 +1,46 @@
 package src;
 
+/**
+ * Thrown when the parser finds a syntax error. The error holds where it was
+ * found, and is only printed once the parse has actually failed, by
+ * {@link ErrorHandler#printErrorParser(ParseSyntaxError)}.
+ *
+ * Parse errors are part of normal parsing rather than bugs, so no stack
+ * trace is filled in when one is made.
+ */
 public class ParseSyntaxError extends Exception {
 
+    private static final long serialVersionUID = 1L;
+
+    private final String filename;
+    private final int lineNum;
+
     public ParseSyntaxError(String message) {
-        super(message);
+        this(message, null, 0);
+    }
+
+    /**
+     * @param message the message to report
+     * @param filename name of the file that contains the error causing token
+     * @param lineNum line number of the token
+     */
+    public ParseSyntaxError(String message, String filename, int lineNum) {
+        super(message, null, false, false);
+        this.filename = filename;
+        this.lineNum = lineNum;
+    }
+
+    /**
+     * @return the name of the file the error was found in, or null if it is not known
+     */
+    public String getFilename() {
+        return filename;
+    }
+
+    /**
+     * @return the line the error was found on
+     */
+    public int getLineNum() {
+        return lineNum;
     }
 }
@@ -0,0 +1,42 @@
+package src;
+
+/**
+ * Found when a parsed Jott program breaks one of the semantic rules of Jott,
+ * such as calling a function that is not defined. The error holds where it
+ * was found, and is printed by {@link ErrorHandler#printErrorSemantic(SemanticError)}.
+ *
+ * Validation carries on past a semantic error so every one is found, so
+ * errors are collected rather than thrown and no stack trace is filled in.
+ */
+public class SemanticError extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String filename;
+    private final int lineNum;
+
+    /**
+     * @param message the message to report
+     * @param filename name of the file that contains the error causing token
+     * @param lineNum line number of the token
+     */
+    public SemanticError(String message, String filename, int lineNum) {
+        super(message, null, false, false);
+        this.filename = filename;
+        this.lineNum = lineNum;
+    }
+
+    /**
+     * @return the name of the file the error was found in
+     */
+    public String getFilename() {
+        return filename;
+    }
+
+    /**
+     * @return the line the error was found on
+     */
+    public int getLineNum() {
+        return lineNum;
+    }
+}
@@ -0,0 +1,98 @@
+package src.parser;
+
+import java.io.IOException;
+
+/**
+ * This class is responsible for presenting one node of an AstArena as a JottTree.
+ * A view holds only the arena and the node's index, so views can be made and
+ * dropped freely while walking the arena
+ *
+ * @author Hritik "Ricky" Gupta
+ * @author Griffin Danner-Doran
+ * @author Austin Couch
+ * @author Sam Harrell
+ */
+public class ArenaNode implements JottTree{
+
+    private final AstArena arena;
+    private final int index;
+
+    /**
+     * Constructor for a view of a node in an arena
+     *
+     * @param arena the arena holding the node
+     * @param index the index of the node
+     */
+    ArenaNode(AstArena arena, int index){
+        this.arena = arena;
+        this.index = index;
+    }
+
+    /**
+     * @return the arena holding this node
+     */
+    public AstArena getArena(){
+        return arena;
+    }
+
+    /**
+     * @return the index of this node in its arena
+     */
+    public int getIndex(){
+        return index;
+    }
+
+    /**
+     * @return the kind of this node
+     */
+    public AstKind getKind(){
+        return arena.kind(index);
+    }
+
+    /**
+     * @return the first child of this node, or null if it has none
+     */
+    public ArenaNode getFirstChild(){
+        return arena.node(arena.firstChild(index));
+    }
+
+    /**
+     * @return the next child of this node's parent, or null if this is the last
+     */
+    public ArenaNode getNextSibling(){
+        return arena.node(arena.nextSibling(index));
+    }
+
+    /**
+     * @return the text of this node's token, or null if it is not a TOKEN node
+     */
+    public String getText(){
+        return arena.text(index);
+    }
+
+    /**
+     * Responsible for writing out the node this view is of
+     *
+     * @param out where this node's respective proper Jott representation is written
+     * @throws IOException if out cannot be written to
+     */
+    public void emitJott(Appendable out) throws IOException {
+        arena.emitJott(index, out);
+    }
+
+    /**
+     * Passes this node to the visitor method for its type
+     *
+     * @param visitor the visitor to pass this node to
+     * @return what the visitor gives back
+     */
+    public <R> R accept(JottTreeVisitor<R> visitor){
+        return visitor.visitArenaNode(this);
+    }
+
+    // functions to be in future phases
+    public String convertToJava(){return null;}
+    public String convertToC(){return null;}
+    public String convertToPython(){return null;}
+    public boolean validateTree(){return false;}
+}
@@ -1,13 +1,15 @@
 package src.parser;
 
 import src.ParseSyntaxError;
+import src.tokenizer.Keywords;
 import src.tokenizer.Token;
+import src.tokenizer.TokenStream;
 
-import java.util.ArrayList;
-
-import static src.ErrorHandler.printErrorParser;
+import static src.ErrorHandler.expectToken;
 import static src.tokenizer.TokenType.*;
 
+import java.io.IOException;
+
 /**
  * This class is responsible for representing a parsed Jott assignment node
  * when a JottTree is built
@@ -17,7 +19,7 @@ import static src.tokenizer.TokenType.*;
  * @author Austin Couch
  * @author Sam Harrell
  */
-public class AsmtNode implements JottTree{
+public class AsmtNode implements JottTree, Flattenable{
 
     private Token type = null;
     private Token id;
@@ -27,63 +29,110 @@ public class AsmtNode implements JottTree{
      * Constructor that will try to build an assignment node from the provided Jott
      * tokens and will immediately throw a ParseSyntax error if it is unable to do so
      *
-     * @param tokens the ArrayList of Jott tokens to parse
+     * @param tokens the stream of Jott tokens to parse
      * @throws ParseSyntaxError if there are any unexpected tokens preventing the proper
      *                              formation of a representative assignment
      */
-    public AsmtNode(ArrayList<Token> tokens) throws ParseSyntaxError {
+    public AsmtNode(TokenStream tokens) throws ParseSyntaxError {
         //if it has a variable type, has to go to a specific expr type
-        if(!tokens.isEmpty() && tokens.get(0).getToken().matches("Double|Integer|Boolean|String")){
-            type = tokens.remove(0);
+        if(!tokens.isEmpty() && Keywords.isType(tokens.peek())){
+            type = tokens.next();
             //next thing needs to be an ID
-            if(!tokens.isEmpty() && tokens.get(0).getTokenType() == ID_KEYWORD && !tokens.get(0).getToken().matches("Void|Double|Integer|Boolean|String|True|False")){
-                id = tokens.remove(0);
+            if(!tokens.isEmpty() && tokens.peek().getTokenType() == ID_KEYWORD && !Keywords.isReserved(tokens.peek())){
+                id = tokens.next();
             }else{
-                printErrorParser(tokens, null, id, "asmt missing id", "expected id got ");
+                expectToken(tokens, null, id, "asmt missing id", "expected id got ");
             }
-            printErrorParser(tokens, ASSIGN, id, "asmt missing =", "expected = got ");
-            tokens.remove(0);
+            expectToken(tokens, ASSIGN, id, "asmt missing =", "expected = got ");
+            tokens.next();
 
-            if(!tokens.isEmpty() && tokens.get(0).getTokenType() != SEMICOLON){
+            if(!tokens.isEmpty() && tokens.peek().getTokenType() != SEMICOLON){
                 //As per discussion with prof in class, even with a defined type given, it simply hands it off to the expr node
                 //to figure out what type of expr it is instead of having it try to match the given type
                 expression = new ExprNode(tokens);
             }else{
-                printErrorParser(tokens, null, id, "asmt missing expr", "expected expr got ");
+                expectToken(tokens, null, id, "asmt missing expr", "expected expr got ");
             }
 
         }//if there is not a specific type, it can be any one of the 4 expression types, so pass to expr to figure it out
         else{
-            if(!tokens.isEmpty() && tokens.get(0).getTokenType() == ID_KEYWORD && !tokens.get(0).getToken().matches("Void|Double|Integer|Boolean|String|True|False")){
-                id = tokens.remove(0);
+            if(!tokens.isEmpty() && tokens.peek().getTokenType() == ID_KEYWORD && !Keywords.isReserved(tokens.peek())){
+                id = tokens.next();
             }else{
-                printErrorParser(tokens, null, id, "asmt missing id", "expected id got ");
+                expectToken(tokens, null, id, "asmt missing id", "expected id got ");
             }
-            printErrorParser(tokens, ASSIGN, id, "asmt missing =", "expected = got ");
-            tokens.remove(0);
+            expectToken(tokens, ASSIGN, id, "asmt missing =", "expected = got ");
+            tokens.next();
             //can be an expr as long as there is something between the = and the ;
-            if(!tokens.isEmpty() && tokens.get(0).getTokenType() != SEMICOLON){
+            if(!tokens.isEmpty() && tokens.peek().getTokenType() != SEMICOLON){
                 expression = new ExprNode(tokens);
             }else{
-                printErrorParser(tokens, null, id, "asmt missing expr", "expected expr got ");
+                expectToken(tokens, null, id, "asmt missing expr", "expected expr got ");
             }
         }
-        printErrorParser(tokens, SEMICOLON, id, "asmt missing ;", "expected ; got ");
-        tokens.remove(0);
+        expectToken(tokens, SEMICOLON, id, "asmt missing ;", "expected ; got ");
+        tokens.next();
+    }
+
+    /**
+     * @return the type of the variable being declared, or null if it is only assigned
+     */
+    public Token getType(){
+        return type;
+    }
+
+    /**
+     * @return the id of the variable
+     */
+    public Token getId(){
+        return id;
+    }
+
+    /**
+     * @return the expression assigned to the variable
+     */
+    public JottTree getExpression(){
+        return expression;
+    }
+
+    /**
+     * Responsible for writing out an assignment
+     *
+     * @param out where this node's respective proper Jott representation is written
+     * @throws IOException if out cannot be written to
+     */
+    public void emitJott(Appendable out) throws IOException {
+        if(type != null){
+            out.append(type.getToken()).append(' ');
+        }
+        out.append(id.getToken()).append('=');
+        expression.emitJott(out);
+        out.append(';');
     }
 
     /**
-     * Responsible for parsing an assignment
+     * Adds this node to an arena, with its tokens and children in source order
      *
-     * @return this node's respective proper Jott representation as a string
+     * @param arena the builder of the arena being filled
      */
-    public String convertToJott(){
-        String readout = "";
+    public void flatten(AstArena.Builder arena){
+        arena.open(AstKind.ASMT);
         if(type != null){
-            readout += type.getToken() + " ";
+            arena.token(type);
         }
-        readout += id.getToken() + "=" + expression.convertToJott() + ";";
-        return readout;
+        arena.token(id);
+        arena.child(expression);
+        arena.close();
+    }
+
+    /**
+     * Passes this node to the visitor method for its type
+     *
+     * @param visitor the visitor to pass this node to
+     * @return what the visitor gives back
+     */
+    public <R> R accept(JottTreeVisitor<R> visitor){
+        return visitor.visitAsmt(this);
     }
 
     // functions to be in future phases
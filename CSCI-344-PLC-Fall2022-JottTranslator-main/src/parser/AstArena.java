@@ -0,0 +1,375 @@
+package src.parser;
+
+import src.tokenizer.Token;
+import src.tokenizer.TokenBuffer;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class is responsible for holding a parsed Jott tree compactly, once
+ * parsing is done. Rather than one object per node with a field for each child and token, every
+ * node is an index into a few primitive arrays: its kind, its first child, its
+ * next sibling, and for a TOKEN node the index of the token in the TokenBuffer
+ * the tree was parsed from. A node's tokens are TOKEN children, kept in source
+ * order among its other children.
+ *
+ * Nodes are read through ArenaNode views, which are made on demand and hold
+ * nothing but the arena and an index.
+ *
+ * The parser does not build into an arena. An arena is made by compacting a
+ * JottTree after the whole tree has been parsed, with {@link #compact}, so it
+ * saves memory for as long as the tree is kept but not during the parse itself.
+ *
+ * @author Hritik "Ricky" Gupta
+ * @author Griffin Danner-Doran
+ * @author Austin Couch
+ * @author Sam Harrell
+ */
+public final class AstArena {
+    private static final AstKind[] KINDS = AstKind.values();
+    private static final int NONE = -1;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final TokenBuffer tokens;
+    private int size = 0;
+    private byte[] kinds = new byte[INITIAL_CAPACITY];
+    private int[] firstChild = new int[INITIAL_CAPACITY];
+    private int[] nextSibling = new int[INITIAL_CAPACITY];
+    private int[] token = new int[INITIAL_CAPACITY];
+
+    private AstArena(TokenBuffer tokens){
+        this.tokens = tokens;
+    }
+
+    /**
+     * Compacts a parsed tree by copying it into a new arena. The tree is not
+     * changed, and can be dropped once this returns
+     *
+     * @param root the root of the tree
+     * @param buffer the tokens the tree was parsed from
+     * @param tokens the Token list made from the buffer that the tree was parsed from
+     * @return the arena, whose root is node 0
+     */
+    static AstArena compact(JottTree root, TokenBuffer buffer, List<Token> tokens){
+        Builder builder = new AstArena(buffer).new Builder(tokens);
+        ((Flattenable) root).flatten(builder);
+        return builder.finish();
+    }
+
+    /**
+     * @return the number of nodes in the arena
+     */
+    public int size(){
+        return size;
+    }
+
+    /**
+     * @return a view of the root node
+     */
+    public ArenaNode root(){
+        return node(0);
+    }
+
+    /**
+     * @param index the index of the node
+     * @return a view of the node, or null if the index is -1
+     */
+    public ArenaNode node(int index){
+        if(index == NONE){
+            return null;
+        }
+        checkIndex(index);
+        return new ArenaNode(this, index);
+    }
+
+    /**
+     * @param index the index of the node
+     * @return the kind of the node
+     */
+    public AstKind kind(int index){
+        checkIndex(index);
+        return KINDS[kinds[index]];
+    }
+
+    /**
+     * @param index the index of the node
+     * @return the index of the node's first child, or -1 if it has none
+     */
+    public int firstChild(int index){
+        checkIndex(index);
+        return firstChild[index];
+    }
+
+    /**
+     * @param index the index of the node
+     * @return the index of the node's next sibling, or -1 if it is the last child
+     */
+    public int nextSibling(int index){
+        checkIndex(index);
+        return nextSibling[index];
+    }
+
+    /**
+     * @param index the index of a TOKEN node
+     * @return the index of the token in the TokenBuffer, or -1 if the node is not a TOKEN
+     */
+    public int tokenIndex(int index){
+        checkIndex(index);
+        return token[index];
+    }
+
+    /**
+     * @param index the index of a TOKEN node
+     * @return the text of the token, or null if the node is not a TOKEN
+     */
+    public String text(int index){
+        int t = tokenIndex(index);
+        return t == NONE ? null : tokens.text(t).toString();
+    }
+
+    /**
+     * @return the tokens the tree was parsed from
+     */
+    public TokenBuffer getTokens(){
+        return tokens;
+    }
+
+    /**
+     * Writes a node out as Jott, the same way the JottTree node it was copied from does
+     *
+     * @param index the index of the node
+     * @param out where the Jott the node represents is written
+     * @throws IOException if out cannot be written to
+     */
+    void emitJott(int index, Appendable out) throws IOException {
+        checkIndex(index);
+        toJott(index, out);
+    }
+
+    private void toJott(int index, Appendable out) throws IOException {
+        int child = firstChild[index];
+        switch(KINDS[kinds[index]]){
+            case TOKEN:
+                out.append(tokens.text(token[index]));
+                return;
+            case FUNC_DEF:
+                //id [ params ] : type { body }
+                toJott(child, out);
+                out.append('[');
+                child = nextSibling[child];
+                if(KINDS[kinds[child]] == AstKind.FUNC_DEF_PARAMS){
+                    toJott(child, out);
+                    child = nextSibling[child];
+                }
+                out.append("]:");
+                toJott(child, out);
+                out.append('{');
+                children(nextSibling[child], out);
+                out.append('}');
+                return;
+            case FUNC_DEF_PARAMS_T:
+                out.append(',');
+                param(child, out);
+                return;
+            case FUNC_DEF_PARAMS:
+                param(child, out);
+                return;
+            case RETURN_STMT:
+                out.append("return ");
+                children(child, out);
+                out.append(';');
+                return;
+            case IF_STMT:
+                out.append("if");
+                condition(child, out);
+                //then the elseif list and else, if there are any
+                children(nextSibling[nextSibling[child]], out);
+                return;
+            case ELSEIF_LST:
+                //a cond and a body for each elseif
+                for(; child != NONE; child = nextSibling[nextSibling[child]]){
+                    out.append("elseif");
+                    condition(child, out);
+                }
+                return;
+            case WHILE_LOOP:
+                out.append("while");
+                condition(child, out);
+                return;
+            case ELSE:
+                out.append("else{");
+                children(child, out);
+                out.append('}');
+                return;
+            case STMT:
+                children(child, out);
+                //a func call is the only stmt whose ; is not part of its child
+                if(KINDS[kinds[child]] == AstKind.FUNC_CALL){
+                    out.append(';');
+                }
+                return;
+            case VAR_DEC:
+                children(child, out);
+                out.append(';');
+                return;
+            case ASMT:
+                //a typed asmt has a type, an id and an expr
+                if(nextSibling[nextSibling[child]] != NONE){
+                    toJott(child, out);
+                    out.append(' ');
+                    child = nextSibling[child];
+                }
+                toJott(child, out);
+                out.append('=');
+                toJott(nextSibling[child], out);
+                out.append(';');
+                return;
+            case FUNC_CALL:
+                toJott(child, out);
+                out.append('[');
+                children(nextSibling[child], out);
+                out.append(']');
+                return;
+            case PARAMS_T:
+                out.append(',');
+                children(child, out);
+                return;
+            default:
+                children(child, out);
+        }
+    }
+
+    /**
+     * Writes out id : type, then the rest of the params, for func_def_params and func_def_params_t
+     */
+    private void param(int child, Appendable out) throws IOException {
+        toJott(child, out);
+        out.append(':');
+        children(nextSibling[child], out);
+    }
+
+    /**
+     * Writes out [ cond ] { body }, for if, elseif and while
+     */
+    private void condition(int child, Appendable out) throws IOException {
+        out.append('[');
+        toJott(child, out);
+        out.append("]{");
+        toJott(nextSibling[child], out);
+        out.append('}');
+    }
+
+    private void children(int child, Appendable out) throws IOException {
+        for(; child != NONE; child = nextSibling[child]){
+            toJott(child, out);
+        }
+    }
+
+    private int add(AstKind kind, int tokenIndex){
+        if(size == kinds.length){
+            int capacity = size * 2;
+            kinds = Arrays.copyOf(kinds, capacity);
+            firstChild = Arrays.copyOf(firstChild, capacity);
+            nextSibling = Arrays.copyOf(nextSibling, capacity);
+            token = Arrays.copyOf(token, capacity);
+        }
+        kinds[size] = (byte) kind.ordinal();
+        firstChild[size] = NONE;
+        nextSibling[size] = NONE;
+        token[size] = tokenIndex;
+        return size++;
+    }
+
+    private void checkIndex(int index){
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException("node " + index + " of " + size);
+        }
+    }
+
+    /**
+     * Fills an arena from a JottTree, one node at a time in source order.
+     * Tokens are given as the Token objects the tree holds, and are found in
+     * the Token list by walking it forward alongside the tree
+     */
+    final class Builder {
+        private final List<Token> tokenList;
+        private int nextToken = 0;
+        // the nodes opened and not yet closed, and the last child added to each
+        private int[] open = new int[16];
+        private int[] lastChild = new int[16];
+        private int depth = 0;
+
+        private Builder(List<Token> tokenList){
+            this.tokenList = tokenList;
+        }
+
+        /**
+         * Adds a node as the next child of the open node, and opens it
+         *
+         * @param kind the kind of the node
+         */
+        void open(AstKind kind){
+            int index = link(add(kind, NONE));
+            if(depth == open.length){
+                open = Arrays.copyOf(open, depth * 2);
+                lastChild = Arrays.copyOf(lastChild, depth * 2);
+            }
+            open[depth] = index;
+            lastChild[depth] = NONE;
+            depth++;
+        }
+
+        /**
+         * Closes the open node, so what comes next is added after it
+         */
+        void close(){
+            depth--;
+        }
+
+        /**
+         * Adds a TOKEN node as the next child of the open node
+         *
+         * @param t a token from the Token list, after any already added
+         */
+        void token(Token t){
+            while(tokenList.get(nextToken) != t){
+                nextToken++;
+            }
+            link(add(AstKind.TOKEN, nextToken++));
+        }
+
+        /**
+         * Adds a child node and everything below it
+         *
+         * @param node the child, which may be null for a child that is not there
+         */
+        void child(JottTree node){
+            if(node != null){
+                ((Flattenable) node).flatten(this);
+            }
+        }
+
+        private int link(int index){
+            if(depth > 0){
+                int parent = depth - 1;
+                if(lastChild[parent] == NONE){
+                    firstChild[open[parent]] = index;
+                }else{
+                    nextSibling[lastChild[parent]] = index;
+                }
+                lastChild[parent] = index;
+            }
+            return index;
+        }
+
+        private AstArena finish(){
+            kinds = Arrays.copyOf(kinds, size);
+            firstChild = Arrays.copyOf(firstChild, size);
+            nextSibling = Arrays.copyOf(nextSibling, size);
+            token = Arrays.copyOf(token, size);
+            return AstArena.this;
+        }
+    }
+}
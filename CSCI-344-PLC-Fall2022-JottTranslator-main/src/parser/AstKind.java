@@ -0,0 +1,38 @@
+package src.parser;
+
+/**
+ * The kinds of node in an AstArena, one for each kind of JottTree node, plus
+ * TOKEN for the tokens the nodes hold
+ *
+ * @author Hritik "Ricky" Gupta
+ * @author Griffin Danner-Doran
+ * @author Austin Couch
+ * @author Sam Harrell
+ */
+public enum AstKind {
+    PROGRAM,
+    FUNC_LIST,
+    FUNC_DEF,
+    FUNC_DEF_PARAMS,
+    FUNC_DEF_PARAMS_T,
+    BODY,
+    BODY_STMT,
+    RETURN_STMT,
+    IF_STMT,
+    ELSEIF_LST,
+    ELSE,
+    WHILE_LOOP,
+    STMT,
+    VAR_DEC,
+    ASMT,
+    FUNC_CALL,
+    PARAMS,
+    PARAMS_T,
+    EXPR,
+    I_EXPR,
+    D_EXPR,
+    S_EXPR,
+    B_EXPR,
+    ERROR,
+    TOKEN
+}
@@ -1,12 +1,14 @@
 package src.parser;
 
 import src.ParseSyntaxError;
-import src.tokenizer.Token;
+import src.tokenizer.TokenStream;
 
+import java.io.IOException;
 import java.util.ArrayList;
 
-import static src.ErrorHandler.printErrorParser;
 import static src.tokenizer.TokenType.*;
+import static src.parser.PredictTable.Nonterminal.BODY;
+import static src.parser.PredictTable.Production.RETURN_STMT;
 
 /**
  * This class is responsible for representing a parsed Jott body node
@@ -17,46 +19,95 @@ import static src.tokenizer.TokenType.*;
  * @author Austin Couch
  * @author Sam Harrell
  */
-public class BodyNode implements JottTree{
+public class BodyNode implements JottTree, Flattenable{
 
     private ArrayList<JottTree> bodies = new ArrayList<>();
 
     /**
      * Constructor that will try to build a body node from the provided Jott
-     * tokens and will immediately throw a ParseSyntax error if it is unable to do so
+     * tokens and will immediately throw a ParseSyntax error if it is unable to do so,
+     * unless the tokens are a RecoveringTokenStream, in which case each broken
+     * statement is kept as an ErrorNode and parsing carries on after it
      *
-     * @param tokens the ArrayList of Jott tokens to parse
+     * @param tokens the stream of Jott tokens to parse
      * @throws ParseSyntaxError if there are any unexpected tokens preventing the proper
      *                              formation of a representative body
      */
-    public BodyNode(ArrayList<Token> tokens) throws ParseSyntaxError {
-        //check to see if the first item we see is an R_BRACE, if so then we have an empty body
-        while(!tokens.isEmpty() && tokens.get(0).getTokenType() != R_BRACE){
-            if(tokens.get(0).getToken().equals("return")){
-                ReturnStmtNode next = new ReturnStmtNode(tokens);
-                bodies.add(next);
-                //body_stmts can loop infinitely, but a return statement signals the final stmt
-                break;
-            }else{
-                //can be one of various body_stmts
-                BodyStmtNode next = new BodyStmtNode(tokens);
-                bodies.add(next);
+    public BodyNode(TokenStream tokens) throws ParseSyntaxError {
+        //bodies nest inside if and while statements, so each counts towards the max depth
+        JottParser.descend(tokens, tokens.peek());
+        try{
+            //check to see if the first item we see is an R_BRACE, if so then we have an empty body
+            while(!tokens.isEmpty() && tokens.peek().getTokenType() != R_BRACE){
+                //when recovering, a function header means this body lost its closing }
+                if(tokens instanceof RecoveringTokenStream recovering && recovering.atFunctionStart()){
+                    break;
+                }
+                int mark = tokens.mark();
+                try{
+                    if(PredictTable.predict(BODY, tokens, 0) == RETURN_STMT){
+                        ReturnStmtNode next = new ReturnStmtNode(tokens);
+                        bodies.add(next);
+                        //body_stmts can loop infinitely, but a return statement signals the final stmt
+                        break;
+                    }else{
+                        //can be one of various body_stmts
+                        BodyStmtNode next = new BodyStmtNode(tokens);
+                        bodies.add(next);
+                    }
+                }catch(ParseSyntaxError e){
+                    if(!(tokens instanceof RecoveringTokenStream recovering)){
+                        throw e;
+                    }
+                    //skip the broken statement and carry on with the next one
+                    bodies.add(recovering.recoverStatement(e, mark));
+                }
             }
+        }finally{
+            tokens.ascend();
+        }
+    }
+
+    /**
+     * @return the statements of the body, in order, the last of which may be a return
+     */
+    public ArrayList<JottTree> getStatements(){
+        return bodies;
+    }
 
+    /**
+     * Responsible for writing out a body
+     *
+     * @param out where this node's respective proper Jott representation is written
+     * @throws IOException if out cannot be written to
+     */
+    public void emitJott(Appendable out) throws IOException {
+        for(JottTree node: bodies){
+            node.emitJott(out);
         }
     }
 
     /**
-     * Responsible for parsing a body
+     * Adds this node to an arena, with its tokens and children in source order
      *
-     * @return this node's respective proper Jott representation as a string
+     * @param arena the builder of the arena being filled
      */
-    public String convertToJott(){
-        String readout = "";
+    public void flatten(AstArena.Builder arena){
+        arena.open(AstKind.BODY);
         for(JottTree node: bodies){
-            readout += node.convertToJott();
+            arena.child(node);
         }
-        return readout;
+        arena.close();
+    }
+
+    /**
+     * Passes this node to the visitor method for its type
+     *
+     * @param visitor the visitor to pass this node to
+     * @return what the visitor gives back
+     */
+    public <R> R accept(JottTreeVisitor<R> visitor){
+        return visitor.visitBody(this);
     }
 
     // functions to be in future phases
@@ -1,12 +1,21 @@
 package src.parser;
 
 import src.ParseSyntaxError;
-import src.tokenizer.Token;
+import src.tokenizer.Keywords;
+import src.tokenizer.TokenStream;
 
-import java.util.ArrayList;
-
-import static src.ErrorHandler.printErrorParser;
+import static src.ErrorHandler.generateErrorString;
+import static src.ErrorHandler.expectToken;
+import static src.ErrorHandler.syntaxError;
+import static src.parser.PredictTable.Nonterminal.BODY_STMT;
+import static src.parser.PredictTable.Production.IF_STMT;
+import static src.parser.PredictTable.Production.STMT;
+import static src.parser.PredictTable.Production.WHILE_LOOP;
 import static src.tokenizer.TokenType.ID_KEYWORD;
+import static src.tokenizer.Keyword.ELSE;
+import static src.tokenizer.Keyword.ELSEIF;
+
+import java.io.IOException;
 
 /**
  * This class is responsible for representing a parsed Jott body statement node
@@ -17,7 +26,7 @@ import static src.tokenizer.TokenType.ID_KEYWORD;
  * @author Austin Couch
  * @author Sam Harrell
  */
-public class BodyStmtNode implements JottTree{
+public class BodyStmtNode implements JottTree, Flattenable{
 
     private JottTree statement;
 
@@ -25,33 +34,65 @@ public class BodyStmtNode implements JottTree{
      * Constructor that will try to build a body statement node from the provided Jott
      * tokens and will immediately throw a ParseSyntax error if it is unable to do so
      *
-     * @param tokens the ArrayList of Jott tokens to parse
+     * @param tokens the stream of Jott tokens to parse
      * @throws ParseSyntaxError if there are any unexpected tokens preventing the proper
      *                              formation of a representative body statement
      */
-    public BodyStmtNode(ArrayList<Token> tokens) throws ParseSyntaxError {
-        if(tokens.get(0).getToken().equals("elseif")){
-            printErrorParser("elseif without an if", tokens.get(0).getFilename(), tokens.get(0).getLineNum());
-        }else if(tokens.get(0).getToken().equals("else")){
-            printErrorParser("else without an if", tokens.get(0).getFilename(), tokens.get(0).getLineNum());
-        } else if(tokens.get(0).getToken().equals("if")){
+    public BodyStmtNode(TokenStream tokens) throws ParseSyntaxError {
+        PredictTable.Production production = PredictTable.predict(BODY_STMT, tokens, 0);
+        if(production == IF_STMT){
            statement = new IfStmtNode(tokens);
-        } else if(tokens.get(0).getToken().equals("while")){
+        } else if(production == WHILE_LOOP){
            statement = new WhileStmtNode(tokens);
-        } else if(tokens.get(0).getTokenType() == ID_KEYWORD){
+        } else if(production == STMT){
            statement = new StmtNode(tokens);
+        } else if(Keywords.is(tokens.peek(), ELSEIF)){
+            syntaxError("elseif without an if", tokens.peek().getFilename(), tokens.peek().getLineNum());
+        }else if(Keywords.is(tokens.peek(), ELSE)){
+            syntaxError("else without an if", tokens.peek().getFilename(), tokens.peek().getLineNum());
+        } else if(tokens.peek().getTokenType() == ID_KEYWORD){
+            syntaxError("Expected stmt start got " + generateErrorString(tokens.peek()), tokens.peek().getFilename(), tokens.peek().getLineNum());
         } else{
-            printErrorParser(tokens, ID_KEYWORD, tokens.get(0), "body stmt missing stmt", "expected stmt got ");
+            expectToken(tokens, ID_KEYWORD, tokens.peek(), "body stmt missing stmt", "expected stmt got ");
         }
     }
 
     /**
-     * Responsible for parsing a body statement
+     * @return the if, while or statement this body statement holds
+     */
+    public JottTree getStatement(){
+        return statement;
+    }
+
+    /**
+     * Responsible for writing out a body statement
+     *
+     * @param out where this node's respective proper Jott representation is written
+     * @throws IOException if out cannot be written to
+     */
+    public void emitJott(Appendable out) throws IOException {
+        statement.emitJott(out);
+    }
+
+    /**
+     * Adds this node to an arena, with its tokens and children in source order
+     *
+     * @param arena the builder of the arena being filled
+     */
+    public void flatten(AstArena.Builder arena){
+        arena.open(AstKind.BODY_STMT);
+        arena.child(statement);
+        arena.close();
+    }
+
+    /**
+     * Passes this node to the visitor method for its type
      *
-     * @return this node's respective proper Jott representation as a string
+     * @param visitor the visitor to pass this node to
+     * @return what the visitor gives back
      */
-    public String convertToJott(){
-        return statement.convertToJott();
+    public <R> R accept(JottTreeVisitor<R> visitor){
+        return visitor.visitBodyStmt(this);
     }
 
     // functions to be in future phases
@@ -1,14 +1,10 @@
 package src.parser;
 
-import src.ParseSyntaxError;
 import src.tokenizer.Token;
 
+import java.io.IOException;
 import java.util.ArrayList;
 
-import static src.ErrorHandler.generateErrorString;
-import static src.ErrorHandler.printErrorParser;
-import static src.tokenizer.TokenType.*;
-
 /**
  * This class is responsible for representing a parsed Jott double expression node
  * when a JottTree is built
@@ -18,166 +14,137 @@ import static src.tokenizer.TokenType.*;
  * @author Austin Couch
  * @author Sam Harrell
  */
-public class DExprNode implements JottTree{
-
-    private Token sign1 = null;
-    private Token dbl1 = null;
-    private JottTree func1 = null;
-    private Token op1 = null;
-    private Token sign2 = null;
-    private Token dbl2 = null;
-    private JottTree func2 = null;
-    private Token op2 = null;
-    private JottTree dExpr2 = null;
+public class DExprNode extends TypedExpr implements Flattenable{
+
+    private Token sign = null;
+    private Token dbl = null;
+    private JottTree func = null;
+    // a chain of operands joined by ops, kept as lists so a long chain does not nest
+    private ArrayList<JottTree> operands = null;
+    private ArrayList<Token> ops = null;
 
     /**
-     * Constructor that will try to build a double expression node from the provided Jott
-     * tokens and will immediately throw a ParseSyntax error if it is unable to do so
+     * Creates a double expression node for a single double or id, built by the ExprParser
      *
-     * @param tokens the ArrayList of Jott tokens to parse
-     * @throws ParseSyntaxError if there are any unexpected tokens preventing the proper
-     *                              formation of a representative double expression
+     * @param sign the sign in front of the double, or null if there is none
+     * @param dbl the double or id
      */
-    public DExprNode(ArrayList<Token> tokens) throws ParseSyntaxError {
-            //handles items that can start our expression
-            if(tokens.size() >= 2 &&  tokens.get(0).getTokenType() == ID_KEYWORD
-                    && !tokens.get(0).getToken().matches("Void|Double|Integer|Boolean|String|True|False")) {
-                //if we see an L bracket next, we have a func call
-                if (tokens.get(1).getTokenType() == L_BRACKET) {
-                    func1 = new FuncCallNode(tokens);
-                }
-                else {
-                    //we just have a regular id
-                    dbl1 = tokens.remove(0);
-                }
-            }
-            else if(tokens.size() >= 2 &&  tokens.get(0).getTokenType() == NUMBER){
-                if(tokens.get(0).getToken().contains(Character.toString('.'))){
-                    //we have a valid double with no sign
-                    dbl1 = tokens.remove(0);
-                }
-                else{
-                    printErrorParser("Expected double got int", tokens.get(0).getFilename(), tokens.get(0).getLineNum());
-                }
-            }
-            else if(tokens.size() >= 3 && (tokens.get(0).getToken().equals("+") || tokens.get(0).getToken().equals("-"))
-                    && tokens.get(1).getTokenType() == NUMBER){
-                if(tokens.get(1).getToken().contains(Character.toString('.'))){
-                    //we have a valid double with a sign
-                    sign1 = tokens.remove(0);
-                    dbl1 = tokens.remove(0);
-                }
-                else{
-                    printErrorParser("Expected double got int", tokens.get(0).getFilename(), tokens.get(0).getLineNum());
-                }
-            }
-            else{
-                if(tokens.get(0).getTokenType() == MATH_OP){
-                    printErrorParser("unaccompanied -/+ missing term or expr", tokens.get(0).getFilename(), tokens.get(0).getLineNum());
-                }
-                printErrorParser("Expected d expr start got " + generateErrorString(tokens.get(0)), tokens.get(0).getFilename(), tokens.get(0).getLineNum());
-            }
-            //if this is the end of our expression we can stop searching here
-            if(tokens.get(0).getTokenType() == SEMICOLON || tokens.get(0).getTokenType() == R_BRACKET
-                || tokens.get(0).getTokenType() == COMMA || tokens.get(0).getTokenType() == REL_OP) {
-                return;
-            }else if(tokens.get(0).getTokenType() == MATH_OP){
-                //we have an op after our first term
-                op1 = tokens.remove(0);
-            }else {
-                String pre = "";
-                if(dbl1 != null){
-                    pre = "double";
-                }else if(func1 != null){
-                    pre = "func call";
-                }
-                printErrorParser("Unexpected token - " + generateErrorString(tokens.get(0)) + " after " + pre, tokens.get(0).getFilename(), tokens.get(0).getLineNum());
-            }
+    DExprNode(Token sign, Token dbl){
+        this.sign = sign;
+        this.dbl = dbl;
+    }
+
+    /**
+     * Creates a double expression node for a single function call, built by the ExprParser
+     *
+     * @param func the function call
+     */
+    DExprNode(JottTree func){
+        this.func = func;
+    }
+
+    /**
+     * Creates a double expression node for double expressions joined by math ops of the same
+     * precedence, read left to right, built by the ExprParser
+     *
+     * @param operands the expressions, at least two
+     * @param ops the math ops, one between each pair of operands
+     */
+    DExprNode(ArrayList<JottTree> operands, ArrayList<Token> ops){
+        this.operands = operands;
+        this.ops = ops;
+    }
+
+    /**
+     * @return the sign in front of the double, or null if there is none
+     */
+    public Token getSign(){
+        return sign;
+    }
 
-            //again check to see if the right half is a valid d_expr
-            if(tokens.size() >= 2 &&  tokens.get(0).getTokenType() == ID_KEYWORD
-                    && !tokens.get(0).getToken().matches("Void|Double|Integer|Boolean|String|True|False")) {
-                //if we see an L bracket next, we have a func call
-                if (tokens.get(1).getTokenType() == L_BRACKET) {
-                     func2 = new FuncCallNode(tokens);
-                } else {
-                    //we just have a regular id
-                    dbl2 = tokens.remove(0);
-                }
-            }else if(tokens.size() >= 2 &&  tokens.get(0).getTokenType() == NUMBER){
-                if(tokens.get(0).getToken().contains(Character.toString('.'))){
-                    //we have a valid double with no sign
-                    dbl2 = tokens.remove(0);
-                }else{
-                    printErrorParser("Expected double got int", tokens.get(0).getFilename(), tokens.get(0).getLineNum());
-                }
-            }else if(tokens.size() >= 3 && (tokens.get(0).getToken().equals("+") || tokens.get(0).getToken().equals("-"))
-                    && tokens.get(1).getTokenType() == NUMBER) {
-                if(tokens.get(1).getToken().contains(Character.toString('.'))){
-                    //we have a valid double with a sign
-                    sign2 = tokens.remove(0);
-                    dbl2 = tokens.remove(0);
-                }else{
-                    printErrorParser("Expected double got int", tokens.get(0).getFilename(), tokens.get(0).getLineNum());
-                }
-            }else{
-                if(tokens.get(0).getTokenType() == MATH_OP){
-                    printErrorParser("unaccompanied -/+ missing term or expr", tokens.get(0).getFilename(), tokens.get(0).getLineNum());
-                }
-                printErrorParser("Expected d expr term got " + generateErrorString(tokens.get(0)), tokens.get(0).getFilename(), tokens.get(0).getLineNum());
+    /**
+     * @return the double or id, or null if this is a function call or a chain
+     */
+    public Token getValue(){
+        return dbl;
+    }
+
+    /**
+     * @return the function call, or null if this is not one
+     */
+    public JottTree getFunc(){
+        return func;
+    }
+
+    /**
+     * @return the expressions joined by math ops, or null if this is not a chain
+     */
+    public ArrayList<JottTree> getOperands(){
+        return operands;
+    }
+
+    /**
+     * @return the math ops, one between each pair of operands, or null if this is not a chain
+     */
+    public ArrayList<Token> getOps(){
+        return ops;
+    }
+
+    /**
+     * Responsible for writing out a double expression
+     *
+     * @param out where this node's respective proper Jott representation is written
+     * @throws IOException if out cannot be written to
+     */
+    public void emitJott(Appendable out) throws IOException {
+        if(ops != null){
+            operands.get(0).emitJott(out);
+            for(int i = 0; i < ops.size(); i++){
+                out.append(ops.get(i).getToken());
+                operands.get(i + 1).emitJott(out);
             }
-            //if this is the end of our full expression we can stop here
-            if(tokens.get(0).getTokenType() == SEMICOLON || tokens.get(0).getTokenType() == R_BRACKET
-                    || tokens.get(0).getTokenType() == COMMA || tokens.get(0).getTokenType() == REL_OP) {
-                return;
-            }else if(tokens.get(0).getTokenType() == MATH_OP){
-                //then this is the starting d expr of a 2 d expr term
-                op2 = tokens.remove(0);
-                dExpr2 = new DExprNode(tokens);
-            }else {
-                String pre = "";
-                if(dbl2 != null){
-                    pre = "int";
-                }else if(func2 != null){
-                    pre = "func call";
-                }
-                printErrorParser("Unexpected token - " + generateErrorString(tokens.get(0)) + " after " + pre, tokens.get(0).getFilename(), tokens.get(0).getLineNum());
+        }else if(func != null){
+            func.emitJott(out);
+        }else{
+            if(sign != null){
+                out.append(sign.getToken());
             }
+            out.append(dbl.getToken());
         }
+    }
 
     /**
-     * Responsible for parsing a double expression
+     * Adds this node to an arena, with its tokens and children in source order
      *
-     * @return this node's respective proper Jott representation as a string
+     * @param arena the builder of the arena being filled
      */
-    public String convertToJott(){
-        String readout = "";
-        if(sign1 != null){
-            readout += sign1.getToken();
-        }
-        if(dbl1 != null){
-            readout += dbl1.getToken();
-        }
-        if(func1 != null){
-            readout += func1.convertToJott();
-        }
-        if(op1 != null){
-            readout += op1.getToken();
+    public void flatten(AstArena.Builder arena){
+        arena.open(AstKind.D_EXPR);
+        if(ops != null){
+            arena.child(operands.get(0));
+            for(int i = 0; i < ops.size(); i++){
+                arena.token(ops.get(i));
+                arena.child(operands.get(i + 1));
+            }
+        }else if(func != null){
+            arena.child(func);
+        }else{
+            if(sign != null){
+                arena.token(sign);
+            }
+            arena.token(dbl);
         }
+        arena.close();
+    }
 
-        if(sign2 != null){
-            readout += sign2.getToken();
-        }
-        if(dbl2 != null){
-            readout += dbl2.getToken();
-        }
-        if(func2 != null){
-            readout += func2.convertToJott();
-        }
-        if(op2 != null){
-            readout += op2.getToken() + dExpr2.convertToJott();
-        }
-        return readout;
+    /**
+     * Passes this node to the visitor method for its type
+     *
+     * @param visitor the visitor to pass this node to
+     * @return what the visitor gives back
+     */
+    public <R> R accept(JottTreeVisitor<R> visitor){
+        return visitor.visitDExpr(this);
     }
 
     // functions to be in future phases
@@ -1,12 +1,16 @@
 package src.parser;
 
 import src.ParseSyntaxError;
+import src.tokenizer.Keywords;
 import src.tokenizer.Token;
+import src.tokenizer.TokenStream;
 
+import java.io.IOException;
 import java.util.ArrayList;
 
-import static src.ErrorHandler.printErrorParser;
+import static src.ErrorHandler.expectToken;
 import static src.tokenizer.TokenType.*;
+import static src.tokenizer.Keyword.ELSEIF;
 
 /**
  * This class is responsible for representing a parsed Jott else if list node
@@ -17,54 +21,99 @@ import static src.tokenizer.TokenType.*;
  * @author Austin Couch
  * @author Sam Harrell
  */
-public class ElseIfLstNode implements JottTree{
+public class ElseIfLstNode implements JottTree, Flattenable{
 
-    private JottTree cond;
-    private JottTree body;
-    private JottTree elseIf = null;
+    // one cond and body for each elseif in the list, in order
+    private ArrayList<JottTree> conds = new ArrayList<>();
+    private ArrayList<JottTree> bodies = new ArrayList<>();
 
     /**
      * Constructor that will try to build an else if list node from the provided Jott
      * tokens and will immediately throw a ParseSyntax error if it is unable to do so
      *
-     * @param tokens the ArrayList of Jott tokens to parse
+     * @param tokens the stream of Jott tokens to parse
      * @throws ParseSyntaxError if there are any unexpected tokens preventing the proper
      *                              formation of a representative else if list
      */
-    public ElseIfLstNode(ArrayList<Token> tokens) throws ParseSyntaxError {
-        //if we are in this node, the function list detected an elseif token
-        Token ei = tokens.remove(0);
-        printErrorParser(tokens, L_BRACKET, ei, "elseif missing [", "expected [ got ");
-        tokens.remove(0);
-        if(!tokens.isEmpty()){// b_expr can start with basically anything, let it handle itself
-            cond = new BExprNode(tokens);
-        }
-        printErrorParser(tokens, R_BRACKET, ei, "elseif missing ]", "expected ] got ");
-        tokens.remove(0);
-        printErrorParser(tokens, L_BRACE, ei, "elseif missing {", "expected { got ");
-        tokens.remove(0);
-        //let body handle its own checking
-        if(!tokens.isEmpty()){
-            body = new BodyNode(tokens);
-        }
-        printErrorParser(tokens, R_BRACE, ei, "elseif missing }", "expected } got ");
-        tokens.remove(0);
-        if(!tokens.isEmpty() && tokens.get(0).getToken().equals("elseif")){
-            elseIf = new ElseIfLstNode(tokens);
+    public ElseIfLstNode(TokenStream tokens) throws ParseSyntaxError {
+        //if we are in this node, the function list detected an elseif token, and every elseif
+        //after it is read here in a loop so a long list does not nest
+        do{
+            Token ei = tokens.next();
+            expectToken(tokens, L_BRACKET, ei, "elseif missing [", "expected [ got ");
+            tokens.next();
+            JottTree cond = null;
+            if(!tokens.isEmpty()){// b_expr can start with basically anything, let it handle itself
+                cond = ExprParser.parseBool(tokens);
+            }
+            expectToken(tokens, R_BRACKET, ei, "elseif missing ]", "expected ] got ");
+            tokens.next();
+            expectToken(tokens, L_BRACE, ei, "elseif missing {", "expected { got ");
+            tokens.next();
+            //let body handle its own checking
+            JottTree body = null;
+            if(!tokens.isEmpty()){
+                body = new BodyNode(tokens);
+            }
+            expectToken(tokens, R_BRACE, ei, "elseif missing }", "expected } got ");
+            tokens.next();
+            conds.add(cond);
+            bodies.add(body);
+        }while(!tokens.isEmpty() && Keywords.is(tokens.peek(), ELSEIF));
+    }
+
+    /**
+     * @return the condition of each elseif, in order
+     */
+    public ArrayList<JottTree> getConds(){
+        return conds;
+    }
+
+    /**
+     * @return the body of each elseif, in order
+     */
+    public ArrayList<JottTree> getBodies(){
+        return bodies;
+    }
+
+    /**
+     * Responsible for writing out an else if list
+     *
+     * @param out where this node's respective proper Jott representation is written
+     * @throws IOException if out cannot be written to
+     */
+    public void emitJott(Appendable out) throws IOException {
+        for(int i = 0; i < conds.size(); i++){
+            out.append("elseif[");
+            conds.get(i).emitJott(out);
+            out.append("]{");
+            bodies.get(i).emitJott(out);
+            out.append('}');
         }
     }
 
     /**
-     * Responsible for parsing an else if list
+     * Adds this node to an arena, with its tokens and children in source order
      *
-     * @return this node's respective proper Jott representation as a string
+     * @param arena the builder of the arena being filled
      */
-    public String convertToJott(){
-        String readout = "elseif[" + cond.convertToJott() + "]{" + body.convertToJott() + "}";
-        if(elseIf != null){
-            readout += elseIf.convertToJott();
+    public void flatten(AstArena.Builder arena){
+        arena.open(AstKind.ELSEIF_LST);
+        for(int i = 0; i < conds.size(); i++){
+            arena.child(conds.get(i));
+            arena.child(bodies.get(i));
         }
-        return readout;
+        arena.close();
+    }
+
+    /**
+     * Passes this node to the visitor method for its type
+     *
+     * @param visitor the visitor to pass this node to
+     * @return what the visitor gives back
+     */
+    public <R> R accept(JottTreeVisitor<R> visitor){
+        return visitor.visitElseIfLst(this);
     }
 
     // functions to be in future phases
@@ -2,12 +2,13 @@ package src.parser;
 
 import src.ParseSyntaxError;
 import src.tokenizer.Token;
+import src.tokenizer.TokenStream;
 
-import java.util.ArrayList;
-
-import static src.ErrorHandler.printErrorParser;
+import static src.ErrorHandler.expectToken;
 import static src.tokenizer.TokenType.*;
 
+import java.io.IOException;
+
 /**
  * This class is responsible for representing a parsed Jott else node
  * when a JottTree is built
@@ -17,7 +18,7 @@ import static src.tokenizer.TokenType.*;
  * @author Austin Couch
  * @author Sam Harrell
  */
-public class ElseNode implements JottTree{
+public class ElseNode implements JottTree, Flattenable{
 
     private JottTree body;
 
@@ -25,30 +26,61 @@ public class ElseNode implements JottTree{
      * Constructor that will try to build an else node from the provided Jott
      * tokens and will immediately throw a ParseSyntax error if it is unable to do so
      *
-     * @param tokens the ArrayList of Jott tokens to parse
+     * @param tokens the stream of Jott tokens to parse
      * @throws ParseSyntaxError if there are any unexpected tokens preventing the proper
      *                              formation of a representative else
      */
-    public ElseNode(ArrayList<Token> tokens) throws ParseSyntaxError {
+    public ElseNode(TokenStream tokens) throws ParseSyntaxError {
         //if we are in this node, the function list detected an else token
-        Token e = tokens.remove(0);
-        printErrorParser(tokens, L_BRACE, e, "else missing {", "expected { got ");
-        tokens.remove(0);
+        Token e = tokens.next();
+        expectToken(tokens, L_BRACE, e, "else missing {", "expected { got ");
+        tokens.next();
         //let body handle its own checking
         if(!tokens.isEmpty()){
             body = new BodyNode(tokens);
         }
-        printErrorParser(tokens, R_BRACE, e, "else missing }", "expected } got ");
-        tokens.remove(0);
+        expectToken(tokens, R_BRACE, e, "else missing }", "expected } got ");
+        tokens.next();
+    }
+
+    /**
+     * @return the body of the else
+     */
+    public JottTree getBody(){
+        return body;
+    }
+
+    /**
+     * Responsible for writing out an else statement
+     *
+     * @param out where this node's respective proper Jott representation is written
+     * @throws IOException if out cannot be written to
+     */
+    public void emitJott(Appendable out) throws IOException {
+        out.append("else{");
+        body.emitJott(out);
+        out.append('}');
+    }
+
+    /**
+     * Adds this node to an arena, with its tokens and children in source order
+     *
+     * @param arena the builder of the arena being filled
+     */
+    public void flatten(AstArena.Builder arena){
+        arena.open(AstKind.ELSE);
+        arena.child(body);
+        arena.close();
     }
 
     /**
-     * Responsible for parsing an else statement
+     * Passes this node to the visitor method for its type
      *
-     * @return this node's respective proper Jott representation as a string
+     * @param visitor the visitor to pass this node to
+     * @return what the visitor gives back
      */
-    public String convertToJott(){
-        return "else{" + body.convertToJott() + "}";
+    public <R> R accept(JottTreeVisitor<R> visitor){
+        return visitor.visitElse(this);
     }
 
     // functions to be in future phases
@@ -0,0 +1,89 @@
+package src.parser;
+
+import src.ParseSyntaxError;
+import src.tokenizer.Token;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * This class is responsible for representing Jott tokens that could not be parsed
+ * when a JottTree is built with error recovery. It stands in the tree where the
+ * broken statement or function was, and holds the error and the skipped tokens
+ *
+ * @author Hritik "Ricky" Gupta
+ * @author Griffin Danner-Doran
+ * @author Austin Couch
+ * @author Sam Harrell
+ */
+public class ErrorNode implements JottTree, Flattenable{
+
+    private ParseSyntaxError error;
+    private List<Token> skipped;
+
+    /**
+     * Constructor for a node standing in for tokens skipped after a syntax error
+     *
+     * @param error the error that stopped the parse of these tokens
+     * @param skipped the tokens that were skipped, in order
+     */
+    ErrorNode(ParseSyntaxError error, List<Token> skipped){
+        this.error = error;
+        this.skipped = skipped;
+    }
+
+    /**
+     * @return the syntax error this node stands in for
+     */
+    public ParseSyntaxError getError(){
+        return error;
+    }
+
+    /**
+     * @return the tokens that were skipped, in order
+     */
+    public List<Token> getSkipped(){
+        return skipped;
+    }
+
+    /**
+     * Responsible for writing out the skipped tokens as they were
+     *
+     * @param out where this node's respective proper Jott representation is written
+     * @throws IOException if out cannot be written to
+     */
+    public void emitJott(Appendable out) throws IOException {
+        for(Token t: skipped){
+            out.append(t.getToken());
+        }
+    }
+
+    /**
+     * Adds this node to an arena, with its tokens and children in source order
+     *
+     * @param arena the builder of the arena being filled
+     */
+    public void flatten(AstArena.Builder arena){
+        arena.open(AstKind.ERROR);
+        for(Token t: skipped){
+            arena.token(t);
+        }
+        arena.close();
+    }
+
+    /**
+     * Passes this node to the visitor method for its type
+     *
+     * @param visitor the visitor to pass this node to
+     * @return what the visitor gives back
+     */
+    public <R> R accept(JottTreeVisitor<R> visitor){
+        return visitor.visitError(this);
+    }
+
+    // functions to be in future phases
+    public String convertToJava(){return null;}
+    public String convertToC(){return null;}
+    public String convertToPython(){return null;}
+    public boolean validateTree(){return false;}
+}
@@ -1,14 +1,14 @@
 package src.parser;
 
 import src.ParseSyntaxError;
-import src.tokenizer.Token;
-
-import java.util.ArrayList;
+import src.tokenizer.TokenStream;
 
 import static src.ErrorHandler.generateErrorString;
-import static src.ErrorHandler.printErrorParser;
+import static src.ErrorHandler.syntaxError;
 import static src.tokenizer.TokenType.*;
 
+import java.io.IOException;
+
 /**
  * This class is responsible for representing a parsed Jott expression node
  * when a JottTree is built
@@ -18,7 +18,7 @@ import static src.tokenizer.TokenType.*;
  * @author Austin Couch
  * @author Sam Harrell
  */
-public class ExprNode implements JottTree{
+public class ExprNode extends TypedExpr implements Flattenable{
 
     private JottTree expression;
 
@@ -26,66 +26,59 @@ public class ExprNode implements JottTree{
      * Constructor that will try to build an expression node from the provided Jott
      * tokens and will immediately throw a ParseSyntax error if it is unable to do so
      *
-     * @param tokens the ArrayList of Jott tokens to parse
+     * @param tokens the stream of Jott tokens to parse
      * @throws ParseSyntaxError if there are any unexpected tokens preventing the proper
      *                              formation of a representative expression
      */
-    public ExprNode(ArrayList<Token> tokens) throws ParseSyntaxError {
-        //if it is a string and then some end expression, we know it is just a string. Otherwise, it may be the start
-        //of a string rel_op string
-        if(tokens.size() >= 2 && tokens.get(0).getTokenType() == STRING && (tokens.get(1).getTokenType() == SEMICOLON || tokens.get(1).getTokenType() == R_BRACKET
-                || tokens.get(1).getTokenType() == COMMA)) {
-            expression = new SExprNode(tokens);
-        }else{
-            //we have no idea what kind of expr this is, so we should test which ones we can make
-            ArrayList<Token> boolTester = new ArrayList<Token>();
-            ArrayList<Token> dblTester = new ArrayList<Token>();
-            ArrayList<Token> intTester = new ArrayList<Token>();
-            for(Token t: tokens){
-                boolTester.add(t);
-                dblTester.add(t);
-                intTester.add(t);
-            }
-            TestDBI tester = new TestDBI();
-            TestDBI tester2 = new TestDBI();
-            TestDBI tester3 = new TestDBI();
-            if(tester.testBool(boolTester)){
-                expression = new BExprNode(tokens);
-            }else if(tester2.testDouble(dblTester)){
-                expression = new DExprNode(tokens);
-            }else if(tester3.testInt(intTester)){
-                expression = new IExprNode(tokens);
-            }else{
-                //if we get to this point, then we know that whatever we are parsing cannot correctly be evaluated as any
-                //type of expression. To get the most relevant error, we compare our test functions to see which expression
-                //was able to parse the most terms before failing to find the most relevant syntax error.
-                if(intTester.size() <= dblTester.size() && intTester.size() <= boolTester.size()){
-                    expression = new IExprNode(tokens);
-                }else if(dblTester.size() <= intTester.size() && dblTester.size() <= boolTester.size()){
-                    expression = new DExprNode(tokens);
-                } else{
-                    expression = new BExprNode(tokens);
-                }
-            }
-
-        }
+    public ExprNode(TokenStream tokens) throws ParseSyntaxError {
+        //the expression parser reads the whole expression in one pass and picks its type from its operands
+        expression = ExprParser.parseExpr(tokens);
         //if this is the end of our full expression we can stop here
-        if(tokens.get(0).getTokenType() == SEMICOLON || tokens.get(0).getTokenType() == R_BRACKET
-                || tokens.get(0).getTokenType() == COMMA) {
+        if(tokens.peek().getTokenType() == SEMICOLON || tokens.peek().getTokenType() == R_BRACKET
+                || tokens.peek().getTokenType() == COMMA) {
             return;
         }else {
-            printErrorParser("expected ;|,|] got " + generateErrorString(tokens.get(0)), tokens.get(0).getFilename(), tokens.get(0).getLineNum());
+            syntaxError("expected ;|,|] got " + generateErrorString(tokens.peek()), tokens.peek().getFilename(), tokens.peek().getLineNum());
         }
 
     }
 
     /**
-     * Responsible for parsing an expression
+     * @return the integer, double, string or boolean expression this holds
+     */
+    public JottTree getExpression(){
+        return expression;
+    }
+
+    /**
+     * Responsible for writing out an expression
+     *
+     * @param out where this node's respective proper Jott representation is written
+     * @throws IOException if out cannot be written to
+     */
+    public void emitJott(Appendable out) throws IOException {
+        expression.emitJott(out);
+    }
+
+    /**
+     * Adds this node to an arena, with its tokens and children in source order
+     *
+     * @param arena the builder of the arena being filled
+     */
+    public void flatten(AstArena.Builder arena){
+        arena.open(AstKind.EXPR);
+        arena.child(expression);
+        arena.close();
+    }
+
+    /**
+     * Passes this node to the visitor method for its type
      *
-     * @return this node's respective proper Jott representation as a string
+     * @param visitor the visitor to pass this node to
+     * @return what the visitor gives back
      */
-    public String convertToJott(){
-       return expression.convertToJott();
+    public <R> R accept(JottTreeVisitor<R> visitor){
+        return visitor.visitExpr(this);
     }
 
     // functions to be in future phases
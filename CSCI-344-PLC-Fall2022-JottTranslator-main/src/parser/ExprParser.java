@@ -0,0 +1,283 @@
+package src.parser;
+
+import src.ParseSyntaxError;
+import src.tokenizer.Keywords;
+import src.tokenizer.Token;
+import src.tokenizer.TokenStream;
+
+import java.util.ArrayList;
+
+import static src.ErrorHandler.generateErrorString;
+import static src.ErrorHandler.syntaxError;
+import static src.tokenizer.TokenType.*;
+
+/**
+ * This class is responsible for parsing Jott expressions in a single left to right pass.
+ * The type of an expression (int, double, string or boolean) is worked out from its
+ * operands as they are read, so the right kind of expression node is built the first
+ * time rather than trying each kind in turn.
+ *
+ * A run of operands joined by math ops is built as a chain of + and - whose operands
+ * are chains of * and /, so * and / bind tighter. Runs joined by rel ops make a chain
+ * that is a boolean expression. Chains hold their operands in lists rather than nesting
+ * a node per op, so a long expression is neither parsed nor written out recursively.
+ * Ids and function calls could be any type, so a run made only of them is a double
+ * expression, and a lone id or function call is a boolean expression.
+ *
+ * Nothing is parsed ahead and then thrown away, so every token is read exactly
+ * once and there are no repeated attempts at a position that would be worth memoizing.
+ *
+ * @author Hritik "Ricky" Gupta
+ * @author Griffin Danner-Doran
+ * @author Austin Couch
+ * @author Sam Harrell
+ */
+final class ExprParser {
+
+    private ExprParser(){}
+
+    /**
+     * The type of an operand or of a run of operands
+     */
+    private enum Type {
+        INT("int"), DOUBLE("double"), STRING("string"), BOOLEAN("boolean"), UNKNOWN("id");
+
+        private final String name;
+
+        Type(String name){
+            this.name = name;
+        }
+    }
+
+    /**
+     * One operand of an expression: a literal or id with an optional sign, or a function call
+     */
+    private static class Operand {
+        private Token first;
+        private Token sign = null;
+        private Token value = null;
+        private JottTree func = null;
+        private Type type;
+
+        /**
+         * @return what this operand is, for error messages
+         */
+        private String describe(){
+            if(func != null){
+                return "func call";
+            }
+            return type.name;
+        }
+    }
+
+    /**
+     * Operands joined by math ops, read up to a rel op or the end of the expression
+     */
+    private static class Run {
+        private final ArrayList<Operand> operands = new ArrayList<>();
+        private final ArrayList<Token> ops = new ArrayList<>();
+        private Type type = Type.UNKNOWN;
+        // the next operand and op for build to read
+        private int next;
+        private int nextOp;
+
+        /**
+         * @return true if this run is just one id or function call
+         */
+        private boolean isLoneUnknown(){
+            return operands.size() == 1 && type == Type.UNKNOWN;
+        }
+
+        /**
+         * Builds the expression node for this run
+         *
+         * @return the node, typed by the operands of the run
+         */
+        private JottTree build(){
+            next = 0;
+            nextOp = 0;
+            return chain(0);
+        }
+
+        /**
+         * Reads operands joined by ops of one precedence into a single chain node, each
+         * operand being a chain of the ops that bind tighter. There are only two
+         * precedences, so this never goes more than two calls deep however long the run
+         */
+        private JottTree chain(int precedence){
+            ArrayList<JottTree> terms = new ArrayList<>();
+            ArrayList<Token> chainOps = new ArrayList<>();
+            terms.add(term(precedence));
+            while(nextOp < ops.size() && precedence(ops.get(nextOp)) == precedence){
+                chainOps.add(ops.get(nextOp++));
+                terms.add(term(precedence));
+            }
+            if(chainOps.isEmpty()){
+                return terms.get(0);
+            }
+            if(type == Type.INT){
+                return new IExprNode(terms, chainOps);
+            }
+            return new DExprNode(terms, chainOps);
+        }
+
+        private JottTree term(int precedence){
+            return precedence == 0 ? chain(1) : leaf(operands.get(next++));
+        }
+
+        private JottTree leaf(Operand operand){
+            switch(type){
+                case INT:
+                    return operand.func != null ? new IExprNode(operand.func) : new IExprNode(operand.sign, operand.value);
+                case STRING:
+                    return operand.func != null ? new SExprNode(operand.func) : new SExprNode(operand.value);
+                case BOOLEAN:
+                    return operand.func != null ? new BExprNode(operand.func) : new BExprNode(operand.value);
+                default:
+                    return operand.func != null ? new DExprNode(operand.func) : new DExprNode(operand.sign, operand.value);
+            }
+        }
+    }
+
+    /**
+     * Parses an expression of any type
+     *
+     * @param tokens the stream of Jott tokens to parse
+     * @return the expression node, whose class gives the type of the expression
+     * @throws ParseSyntaxError if the tokens do not make a valid expression
+     */
+    static JottTree parseExpr(TokenStream tokens) throws ParseSyntaxError {
+        return parseExpr(tokens, parseRun(tokens));
+    }
+
+    /**
+     * Parses a boolean expression, such as the condition of an if or while
+     *
+     * @param tokens the stream of Jott tokens to parse
+     * @return the boolean expression node
+     * @throws ParseSyntaxError if the tokens do not make a valid boolean expression
+     */
+    static BExprNode parseBool(TokenStream tokens) throws ParseSyntaxError {
+        Run first = parseRun(tokens);
+        //only an id, func call or boolean can stand alone as a condition, anything else needs a rel op
+        if(!first.isLoneUnknown() && first.type != Type.BOOLEAN && tokens.peek().getTokenType() != REL_OP){
+            syntaxError("Expected rel op after i/d/s expr got " + generateErrorString(tokens.peek()),
+                    tokens.peek().getFilename(), tokens.peek().getLineNum());
+        }
+        return (BExprNode) parseExpr(tokens, first);
+    }
+
+    private static JottTree parseExpr(TokenStream tokens, Run first) throws ParseSyntaxError {
+        if(tokens.peek().getTokenType() == REL_OP){
+            return parseComparison(tokens, first);
+        }
+        if(first.isLoneUnknown()){
+            //a lone id or function call could be anything, so it is treated as a condition
+            Operand only = first.operands.get(0);
+            return only.func != null ? new BExprNode(only.func) : new BExprNode(only.value);
+        }
+        return first.build();
+    }
+
+    /**
+     * Parses rel ops and the runs after them, left to right, into one chain
+     */
+    private static BExprNode parseComparison(TokenStream tokens, Run first) throws ParseSyntaxError {
+        ArrayList<JottTree> terms = new ArrayList<>();
+        ArrayList<Token> relOps = new ArrayList<>();
+        terms.add(first.build());
+        while(tokens.peek().getTokenType() == REL_OP){
+            relOps.add(tokens.next());
+            terms.add(parseRun(tokens).build());
+        }
+        return new BExprNode(terms, relOps);
+    }
+
+    /**
+     * Reads operands joined by math ops, checking that their types agree. A run
+     * always ends on a token that is still in the stream, so the caller can peek it
+     */
+    private static Run parseRun(TokenStream tokens) throws ParseSyntaxError {
+        Run run = new Run();
+        while(true){
+            Operand operand = parseOperand(tokens, run);
+            if(operand.type != Type.UNKNOWN){
+                if(run.type == Type.UNKNOWN){
+                    run.type = operand.type;
+                }else if(run.type != operand.type){
+                    syntaxError("Expected " + run.type.name + " got " + operand.type.name,
+                            operand.first.getFilename(), operand.first.getLineNum());
+                }
+            }
+            run.operands.add(operand);
+
+            if(tokens.isEmpty()){
+                syntaxError("expr missing ;|,|] after " + operand.describe(),
+                        operand.first.getFilename(), operand.first.getLineNum());
+            }
+            Token follow = tokens.peek();
+            if(follow.getTokenType() == MATH_OP && run.type != Type.STRING && run.type != Type.BOOLEAN){
+                run.ops.add(tokens.next());
+            }else if(follow.getTokenType() == REL_OP || follow.getTokenType() == SEMICOLON
+                    || follow.getTokenType() == R_BRACKET || follow.getTokenType() == COMMA){
+                return run;
+            }else{
+                syntaxError("Unexpected token - " + generateErrorString(follow) + " after " + operand.describe(),
+                        follow.getFilename(), follow.getLineNum());
+            }
+        }
+    }
+
+    /**
+     * Reads one operand
+     */
+    private static Operand parseOperand(TokenStream tokens, Run run) throws ParseSyntaxError {
+        String where = run.operands.isEmpty() ? "start" : "term";
+        if(tokens.isEmpty()){
+            //the token before the missing operand is a math op, a rel op, or whatever came before the expr
+            Token before = tokens.previous();
+            syntaxError("expr missing " + where + " after " + before.getToken(), before.getFilename(), before.getLineNum());
+        }
+        Operand operand = new Operand();
+        Token t = tokens.peek();
+        operand.first = t;
+        if(t.getTokenType() == NUMBER){
+            operand.value = tokens.next();
+            operand.type = t.isDoubleLiteral() ? Type.DOUBLE : Type.INT;
+        }else if(t.getTokenType() == MATH_OP){
+            if((t.getToken().equals("+") || t.getToken().equals("-")) && tokens.canPeek(1)
+                    && tokens.peek(1).getTokenType() == NUMBER){
+                operand.sign = tokens.next();
+                operand.value = tokens.next();
+                operand.type = operand.value.isDoubleLiteral() ? Type.DOUBLE : Type.INT;
+            }else{
+                syntaxError("unaccompanied -/+ missing term or expr", t.getFilename(), t.getLineNum());
+            }
+        }else if(t.getTokenType() == STRING){
+            operand.value = tokens.next();
+            operand.type = Type.STRING;
+        }else if(Keywords.isBool(t)){
+            operand.value = tokens.next();
+            operand.type = Type.BOOLEAN;
+        }else if(t.getTokenType() == ID_KEYWORD && !Keywords.isReserved(t)){
+            if(tokens.canPeek(1) && tokens.peek(1).getTokenType() == L_BRACKET){
+                operand.func = new FuncCallNode(tokens);
+            }else{
+                operand.value = tokens.next();
+            }
+            operand.type = Type.UNKNOWN;
+        }else{
+            syntaxError("Expected expr " + where + " got " + generateErrorString(t), t.getFilename(), t.getLineNum());
+        }
+
+        //strings and booleans can't be used with math ops, so they only stand alone or beside a rel op
+        if(!run.operands.isEmpty() && (operand.type == Type.STRING || operand.type == Type.BOOLEAN)){
+            syntaxError("Expected i/d expr term got " + operand.type.name, t.getFilename(), t.getLineNum());
+        }
+        return operand;
+    }
+
+    private static int precedence(Token op){
+        return op.getToken().equals("*") || op.getToken().equals("/") ? 1 : 0;
+    }
+}
@@ -0,0 +1,19 @@
+package src.parser;
+
+/**
+ * Implemented by the JottTree nodes so a tree can be compacted into an AstArena once it is parsed
+ *
+ * @author Hritik "Ricky" Gupta
+ * @author Griffin Danner-Doran
+ * @author Austin Couch
+ * @author Sam Harrell
+ */
+interface Flattenable {
+
+    /**
+     * Adds this node, its tokens and its children to an arena, in source order
+     *
+     * @param arena the builder of the arena being filled
+     */
+    void flatten(AstArena.Builder arena);
+}
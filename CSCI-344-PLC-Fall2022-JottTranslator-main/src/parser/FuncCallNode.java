@@ -2,12 +2,13 @@ package src.parser;
 
 import src.ParseSyntaxError;
 import src.tokenizer.Token;
+import src.tokenizer.TokenStream;
 
-import java.util.ArrayList;
-
-import static src.ErrorHandler.printErrorParser;
+import static src.ErrorHandler.expectToken;
 import static src.tokenizer.TokenType.*;
 
+import java.io.IOException;
+
 /**
  * This class is responsible for representing a parsed Jott fucntion call node
  * when a JottTree is built
@@ -17,7 +18,7 @@ import static src.tokenizer.TokenType.*;
  * @author Austin Couch
  * @author Sam Harrell
  */
-public class FuncCallNode implements JottTree{
+public class FuncCallNode extends TypedExpr implements Flattenable{
 
     private Token function;
     private JottTree param = null;
@@ -26,34 +27,77 @@ public class FuncCallNode implements JottTree{
      * Constructor that will try to build a function call node from the provided Jott
      * tokens and will immediately throw a ParseSyntax error if it is unable to do so
      *
-     * @param tokens the ArrayList of Jott tokens to parse
+     * @param tokens the stream of Jott tokens to parse
      * @throws ParseSyntaxError if there are any unexpected tokens preventing the proper
      *                              formation of a representative function call
      */
-    public FuncCallNode(ArrayList<Token> tokens) throws ParseSyntaxError {
+    public FuncCallNode(TokenStream tokens) throws ParseSyntaxError {
         //we start with an ID if we are in this node
-        function = tokens.remove(0);
-        printErrorParser(tokens, L_BRACKET, function, "func call missing [", "expected [ got ");
-        tokens.remove(0);
-        //if next thing is the end bracket, no params, else let params handle it
-        if(!tokens.isEmpty() && tokens.get(0).getTokenType() != R_BRACKET){
-            param = new ParamsNode(tokens);
+        function = tokens.next();
+        //params can hold more func calls, so a call is as deep as its params nest
+        JottParser.descend(tokens, function);
+        try{
+            expectToken(tokens, L_BRACKET, function, "func call missing [", "expected [ got ");
+            tokens.next();
+            //if next thing is the end bracket, no params, else let params handle it
+            if(!tokens.isEmpty() && tokens.peek().getTokenType() != R_BRACKET){
+                param = new ParamsNode(tokens);
+            }
+            expectToken(tokens, R_BRACKET, function, "func call missing ]", "expected ] got ");
+            tokens.next();
+        }finally{
+            tokens.ascend();
         }
-        printErrorParser(tokens, R_BRACKET, function, "func call missing ]", "expected ] got ");
-        tokens.remove(0);
     }
 
     /**
-     * Responsible for parsing a function call
+     * @return the name of the function called
+     */
+    public Token getFunction(){
+        return function;
+    }
+
+    /**
+     * @return the params passed, or null if there are none
+     */
+    public JottTree getParams(){
+        return param;
+    }
+
+    /**
+     * Responsible for writing out a function call
      *
-     * @return this node's respective proper Jott representation as a string
+     * @param out where this node's respective proper Jott representation is written
+     * @throws IOException if out cannot be written to
      */
-    public String convertToJott(){
-        String readout = function.getToken() + "[";
+    public void emitJott(Appendable out) throws IOException {
+        out.append(function.getToken()).append('[');
         if(param != null){
-            readout += param.convertToJott();
+            param.emitJott(out);
         }
-        return readout + "]";
+        out.append(']');
+    }
+
+    /**
+     * Adds this node to an arena, with its tokens and children in source order
+     *
+     * @param arena the builder of the arena being filled
+     */
+    public void flatten(AstArena.Builder arena){
+        arena.open(AstKind.FUNC_CALL);
+        arena.token(function);
+        arena.child(param);
+        arena.close();
+    }
+
+    /**
+     * Passes this node to the visitor method for its type
+     *
+     * @param visitor the visitor to pass this node to
+     * @return what the visitor gives back
+     */
+    public <R> R accept(JottTreeVisitor<R> visitor){
+        return visitor.visitFuncCall(this);
     }
 
     // functions to be in future phases
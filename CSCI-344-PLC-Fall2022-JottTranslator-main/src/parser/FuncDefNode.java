@@ -1,12 +1,16 @@
 package src.parser;
 
 import src.ParseSyntaxError;
+import src.tokenizer.Keywords;
 import src.tokenizer.Token;
+import src.tokenizer.TokenStream;
 
-import java.util.ArrayList;
+import java.io.IOException;
 
 import static src.ErrorHandler.generateErrorString;
+import static src.ErrorHandler.expectToken;
 import static src.ErrorHandler.printErrorParser;
+import static src.ErrorHandler.syntaxError;
 import static src.tokenizer.TokenType.*;
 
 /**
@@ -18,71 +22,189 @@ import static src.tokenizer.TokenType.*;
  * @author Austin Couch
  * @author Sam Harrell
  */
-public class FuncDefNode implements JottTree{
+public class FuncDefNode implements JottTree, Flattenable{
 
     private JottTree paramNode = null;
     private JottTree body = null;
+    // the tokens of a body left for later, until it is parsed
+    private TokenStream unparsedBody = null;
+    // the error a body left for later gave when it was parsed, if it did not parse
+    private ParseSyntaxError bodyError = null;
     private Token id;
     private Token returnType;
 
     /**
      * Constructor that will try to build a function definition node from the provided Jott
-     * tokens and will immediately throw a ParseSyntax error if it is unable to do so
+     * tokens and will immediately throw a ParseSyntax error if it is unable to do so.
+     * Given a LazyTokenStream, only the header is parsed and the body is left for {@link #getBody()}
      *
-     * @param tokens the ArrayList of Jott tokens to parse
+     * @param tokens the stream of Jott tokens to parse
      * @throws ParseSyntaxError if there are any unexpected tokens preventing the proper
      *                              formation of a representative function definition
      */
-    public FuncDefNode(ArrayList<Token> tokens) throws ParseSyntaxError {
+    public FuncDefNode(TokenStream tokens) throws ParseSyntaxError {
         //if we are in this node, the function list detected an id
-        id = tokens.remove(0);
-        printErrorParser(tokens, L_BRACKET, id, "func def missing [", "expected [ got ");
-        tokens.remove(0);
+        id = tokens.next();
+        expectToken(tokens, L_BRACKET, id, "func def missing [", "expected [ got ");
+        tokens.next();
         //params can have multiple comma seperated values, but must always start with a single entry with an id if not empty
-        if(!tokens.isEmpty() && tokens.get(0).getTokenType() == ID_KEYWORD){
-            if(tokens.get(0).getToken().matches("Void|Double|Integer|Boolean|String|True|False")){
-                printErrorParser("expected id got " + generateErrorString(tokens.get(0)), tokens.get(0).getFilename(),tokens.get(0).getLineNum());
+        if(!tokens.isEmpty() && tokens.peek().getTokenType() == ID_KEYWORD){
+            if(Keywords.isReserved(tokens.peek())){
+                syntaxError("expected id got " + generateErrorString(tokens.peek()), tokens.peek().getFilename(),tokens.peek().getLineNum());
             }else{
                 paramNode = new FuncDefParamsNode(tokens);
             }
-        }else if(!tokens.isEmpty() && tokens.get(0).getTokenType() != R_BRACKET){
-            printErrorParser(tokens, R_BRACKET, id, "func def params incorrect", "expected id got ");
+        }else if(!tokens.isEmpty() && tokens.peek().getTokenType() != R_BRACKET){
+            expectToken(tokens, R_BRACKET, id, "func def params incorrect", "expected id got ");
         }
-        printErrorParser(tokens, R_BRACKET, id, "func def missing ]", "expected ] got ");
-        tokens.remove(0);
-        printErrorParser(tokens, COLON, id, "func def missing :", "expected : got ");
-        tokens.remove(0);
-        if(!tokens.isEmpty() && (tokens.get(0).getToken().matches("Void|Double|Integer|Boolean|String")) ){
-            returnType = tokens.remove(0);
+        expectToken(tokens, R_BRACKET, id, "func def missing ]", "expected ] got ");
+        tokens.next();
+        expectToken(tokens, COLON, id, "func def missing :", "expected : got ");
+        tokens.next();
+        if(!tokens.isEmpty() && (Keywords.isReturnType(tokens.peek())) ){
+            returnType = tokens.next();
         }else{
-            printErrorParser(tokens, null, id, "func def missing return type", "expected type got ");
+            expectToken(tokens, null, id, "func def missing return type", "expected type got ");
         }
-        printErrorParser(tokens, L_BRACE, id, "func def missing {", "expected { got ");
-        tokens.remove(0);
+        expectToken(tokens, L_BRACE, id, "func def missing {", "expected { got ");
+        tokens.next();
+        int bodyStart = tokens.mark();
+        if(tokens instanceof LazyTokenStream lazy && lazy.skipBlock()){
+            //keep the body and its closing } to be parsed when it is first asked for
+            unparsedBody = tokens.consumedSince(bodyStart);
+        }else{
+            parseBody(tokens);
+        }
+    }
+
+    /**
+     * Parses the body of the function and the } that closes it
+     *
+     * @param tokens the stream of Jott tokens, positioned after the function's {
+     * @throws ParseSyntaxError if the body is not a valid Jott body
+     */
+    private void parseBody(TokenStream tokens) throws ParseSyntaxError {
         //let body handle its own checking, but if we see an R brace we have an empty body
-        if(!tokens.isEmpty() && tokens.get(0).getTokenType() != R_BRACE){
+        if(!tokens.isEmpty() && tokens.peek().getTokenType() != R_BRACE){
             body = new BodyNode(tokens);
         }
-        printErrorParser(tokens, R_BRACE, id, "func def missing }", "expected } got ");
-        tokens.remove(0);
+        expectToken(tokens, R_BRACE, id, "func def missing }", "expected } got ");
+        tokens.next();
+    }
+
+    /**
+     * @return the token naming the function
+     */
+    public Token getId(){
+        return id;
+    }
+
+    /**
+     * @return the name of the function
+     */
+    public String getName(){
+        return id.getToken();
+    }
+
+    /**
+     * @return the return type of the function, one of the types or Void
+     */
+    public String getReturnType(){
+        return returnType.getToken();
+    }
+
+    /**
+     * @return the parameters of the function, or null if it takes none
+     */
+    public JottTree getParams(){
+        return paramNode;
     }
 
     /**
-     * Responsible for parsing a function definition
+     * Gets the body of the function, parsing it first if it was left for later.
+     * If that body does not parse, its error is printed to standard error the
+     * first time, and the same error is thrown on every call
      *
-     * @return this node's respective proper Jott representation as a string
+     * @return the body of the function, or null if it is empty
+     * @throws ParseSyntaxError if the body was left for later and is not a valid Jott body
      */
-    public String convertToJott(){
-        String readout = id.getToken() + "[";
+    public synchronized JottTree getBody() throws ParseSyntaxError {
+        if(bodyError != null){
+            throw bodyError;
+        }
+        if(unparsedBody != null){
+            TokenStream tokens = unparsedBody;
+            unparsedBody = null;
+            try{
+                parseBody(tokens);
+            }catch(ParseSyntaxError e){
+                //keep the error rather than the half read tokens, so a later call cannot give part of the body
+                body = null;
+                bodyError = e;
+                printErrorParser(e);
+                throw e;
+            }
+        }
+        return body;
+    }
+
+    /**
+     * Gets the body of the function for a pass that has no way to report a syntax error
+     *
+     * @return the body of the function, or null if it is empty
+     * @throws IllegalStateException if the body was left for later and is not a valid Jott body
+     */
+    JottTree parsedBody(){
+        try{
+            return getBody();
+        }catch(ParseSyntaxError e){
+            throw new IllegalStateException("body of " + id.getToken() + " does not parse: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Responsible for writing out a function definition. A body left for later is parsed first,
+     * and an IllegalStateException is thrown if it does not parse
+     *
+     * @param out where this node's respective proper Jott representation is written
+     * @throws IOException if out cannot be written to
+     */
+    public void emitJott(Appendable out) throws IOException {
+        out.append(id.getToken()).append('[');
         if(paramNode != null){
-            readout += paramNode.convertToJott();
+            paramNode.emitJott(out);
         }
-        readout += "]:" + returnType.getToken() + "{";
-        if(body != null){
-            readout += body.convertToJott();
+        out.append("]:").append(returnType.getToken()).append('{');
+        JottTree parsedBody = parsedBody();
+        if(parsedBody != null){
+            parsedBody.emitJott(out);
         }
-        readout += "}";
-        return readout;
+        out.append('}');
+    }
+
+    /**
+     * Adds this node to an arena, with its tokens and children in source order
+     *
+     * @param arena the builder of the arena being filled
+     */
+    public void flatten(AstArena.Builder arena){
+        arena.open(AstKind.FUNC_DEF);
+        arena.token(id);
+        arena.child(paramNode);
+        arena.token(returnType);
+        JottTree parsedBody = parsedBody();
+        arena.child(parsedBody);
+        arena.close();
+    }
+
+    /**
+     * Passes this node to the visitor method for its type
+     *
+     * @param visitor the visitor to pass this node to
+     * @return what the visitor gives back
+     */
+    public <R> R accept(JottTreeVisitor<R> visitor){
+        return visitor.visitFuncDef(this);
     }
 
     // functions to be in future phases
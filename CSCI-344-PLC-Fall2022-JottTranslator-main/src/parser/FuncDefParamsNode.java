@@ -1,12 +1,16 @@
 package src.parser;
 
 import src.ParseSyntaxError;
+import src.tokenizer.Keywords;
 import src.tokenizer.Token;
+import src.tokenizer.TokenStream;
 
+import java.io.IOException;
 import java.util.ArrayList;
 
 import static src.ErrorHandler.generateErrorString;
-import static src.ErrorHandler.printErrorParser;
+import static src.ErrorHandler.expectToken;
+import static src.ErrorHandler.syntaxError;
 import static src.tokenizer.TokenType.*;
 
 /**
@@ -18,50 +22,100 @@ import static src.tokenizer.TokenType.*;
  * @author Austin Couch
  * @author Sam Harrell
  */
-public class FuncDefParamsNode implements JottTree{
+public class FuncDefParamsNode implements JottTree, Flattenable{
 
     private Token id;
     private Token idType;
-    private JottTree addParam = null;
+    // the params after the first, each with its comma
+    private ArrayList<JottTree> addParams = new ArrayList<>();
 
     /**
      * Constructor that will try to build a function definition parameters node from the provided Jott
      * tokens and will immediately throw a ParseSyntax error if it is unable to do so
      *
-     * @param tokens the ArrayList of Jott tokens to parse
+     * @param tokens the stream of Jott tokens to parse
      * @throws ParseSyntaxError if there are any unexpected tokens preventing the proper
      *                              formation of a representative function definition parameters
      */
-    public FuncDefParamsNode(ArrayList<Token> tokens) throws ParseSyntaxError {
+    public FuncDefParamsNode(TokenStream tokens) throws ParseSyntaxError {
         //if we are in this node, there is at least 1 param node starting with an ID_Keyword
-        id = tokens.remove(0);
-        printErrorParser(tokens, COLON, id, "func def params missing :", "expected : got ");
-        tokens.remove(0);
+        id = tokens.next();
+        expectToken(tokens, COLON, id, "func def params missing :", "expected : got ");
+        tokens.next();
         //check for param type
-        if(!tokens.isEmpty() && tokens.get(0).getToken().matches("Double|Integer|Boolean|String")){
-            idType = tokens.remove(0);
+        if(!tokens.isEmpty() && Keywords.isType(tokens.peek())){
+            idType = tokens.next();
         }else{
-            printErrorParser(tokens, null, id, "func def missing param type", "expected type got ");
+            expectToken(tokens, null, id, "func def missing param type", "expected type got ");
         }
         //add another param if we see a comma after this param
-        if(!tokens.isEmpty() && tokens.get(0).getTokenType() == ID_KEYWORD){
-            printErrorParser("expected , or ] got " + generateErrorString(tokens.get(0)), tokens.get(0).getFilename(), tokens.get(0).getLineNum());
-        }else if(!tokens.isEmpty() && tokens.get(0).getTokenType() == COMMA){
-            addParam = new FuncDefParamsTNode(tokens);
+        if(!tokens.isEmpty() && tokens.peek().getTokenType() == ID_KEYWORD){
+            syntaxError("expected , or ] got " + generateErrorString(tokens.peek()), tokens.peek().getFilename(), tokens.peek().getLineNum());
+        }else{
+            //add the rest of the params while we see commas, in a loop so a long list does not nest
+            while(!tokens.isEmpty() && tokens.peek().getTokenType() == COMMA){
+                addParams.add(new FuncDefParamsTNode(tokens));
+            }
+        }
+    }
+
+    /**
+     * @return the id of the first parameter
+     */
+    public Token getId(){
+        return id;
+    }
+
+    /**
+     * @return the type of the first parameter
+     */
+    public Token getType(){
+        return idType;
+    }
+
+    /**
+     * @return the parameters after the first, in order
+     */
+    public ArrayList<JottTree> getRest(){
+        return addParams;
+    }
+
+    /**
+     * Responsible for writing out a function definition parameters
+     *
+     * @param out where this node's respective proper Jott representation is written
+     * @throws IOException if out cannot be written to
+     */
+    public void emitJott(Appendable out) throws IOException {
+        out.append(id.getToken()).append(':').append(idType.getToken());
+        for(JottTree param: addParams){
+            param.emitJott(out);
         }
     }
 
     /**
-     * Responsible for parsing a function definition parameters
+     * Adds this node to an arena, with its tokens and children in source order
      *
-     * @return this node's respective proper Jott representation as a string
+     * @param arena the builder of the arena being filled
      */
-    public String convertToJott(){
-        String readout = id.getToken() + ":" + idType.getToken();
-        if(addParam != null){
-            readout += addParam.convertToJott();
+    public void flatten(AstArena.Builder arena){
+        arena.open(AstKind.FUNC_DEF_PARAMS);
+        arena.token(id);
+        arena.token(idType);
+        for(JottTree param: addParams){
+            arena.child(param);
         }
-        return readout;
+        arena.close();
+    }
+
+    /**
+     * Passes this node to the visitor method for its type
+     *
+     * @param visitor the visitor to pass this node to
+     * @return what the visitor gives back
+     */
+    public <R> R accept(JottTreeVisitor<R> visitor){
+        return visitor.visitFuncDefParams(this);
     }
 
     // functions to be in future phases
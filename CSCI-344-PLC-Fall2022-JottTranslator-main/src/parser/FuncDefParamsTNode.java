@@ -1,14 +1,17 @@
 package src.parser;
 
 import src.ParseSyntaxError;
+import src.tokenizer.Keywords;
 import src.tokenizer.Token;
-
-import java.util.ArrayList;
+import src.tokenizer.TokenStream;
 
 import static src.ErrorHandler.generateErrorString;
-import static src.ErrorHandler.printErrorParser;
+import static src.ErrorHandler.expectToken;
+import static src.ErrorHandler.syntaxError;
 import static src.tokenizer.TokenType.*;
 
+import java.io.IOException;
+
 /**
  * This class is responsible for representing a parsed Jott function definition parameters node
  * when a JottTree is built
@@ -18,56 +21,85 @@ import static src.tokenizer.TokenType.*;
  * @author Austin Couch
  * @author Sam Harrell
  */
-public class FuncDefParamsTNode implements JottTree{
+public class FuncDefParamsTNode implements JottTree, Flattenable{
 
     private Token id;
     private Token idType;
-    private JottTree addParam = null;
 
     /**
      * Constructor that will try to build a function definition parameters T node from the provided Jott
      * tokens and will immediately throw a ParseSyntax error if it is unable to do so
      *
-     * @param tokens the ArrayList of Jott tokens to parse
+     * @param tokens the stream of Jott tokens to parse
      * @throws ParseSyntaxError if there are any unexpected tokens preventing the proper
      *                              formation of a representative function definition parameters T
      */
-    public FuncDefParamsTNode(ArrayList<Token> tokens) throws ParseSyntaxError {
+    public FuncDefParamsTNode(TokenStream tokens) throws ParseSyntaxError {
         //if we are in this node, there must be a comma at the start
-        Token comma = tokens.remove(0);
-        if(!tokens.isEmpty() && tokens.get(0).getTokenType() == ID_KEYWORD && !tokens.get(0).getToken().matches("Void|Double|Integer|Boolean|String|True|False")){
-            id = tokens.remove(0);
+        Token comma = tokens.next();
+        if(!tokens.isEmpty() && tokens.peek().getTokenType() == ID_KEYWORD && !Keywords.isReserved(tokens.peek())){
+            id = tokens.next();
         }else{
-            printErrorParser(tokens, null, comma, "func def param missing id", "expected id got ");
+            expectToken(tokens, null, comma, "func def param missing id", "expected id got ");
         }
-        printErrorParser(tokens, COLON, id, "func def param missing :", "expected : got ");
-        tokens.remove(0);
+        expectToken(tokens, COLON, id, "func def param missing :", "expected : got ");
+        tokens.next();
         //check for param type
-        if(!tokens.isEmpty() && (tokens.get(0).getToken().matches("Double|Integer|Boolean|String")) ){
-            idType = tokens.remove(0);
+        if(!tokens.isEmpty() && (Keywords.isType(tokens.peek())) ){
+            idType = tokens.next();
         }else{
-            printErrorParser(tokens, null, id, "func def param missing type", "expected type got ");
+            expectToken(tokens, null, id, "func def param missing type", "expected type got ");
         }
-        //add a second param if we see a comma
-        if(!tokens.isEmpty() && tokens.get(0).getTokenType() == ID_KEYWORD){
-            printErrorParser("expected , or ] got " + generateErrorString(tokens.get(0)), tokens.get(0).getFilename(), tokens.get(0).getLineNum());
-        }else if(!tokens.isEmpty() && tokens.get(0).getTokenType() == COMMA){
-            addParam = new FuncDefParamsTNode(tokens);
+        //another param may follow, which the params node reads
+        if(!tokens.isEmpty() && tokens.peek().getTokenType() == ID_KEYWORD){
+            syntaxError("expected , or ] got " + generateErrorString(tokens.peek()), tokens.peek().getFilename(), tokens.peek().getLineNum());
         }
     }
 
     /**
-     * Responsible for parsing a function definition T
+     * @return the id of the parameter
+     */
+    public Token getId(){
+        return id;
+    }
+
+    /**
+     * @return the type of the parameter
+     */
+    public Token getType(){
+        return idType;
+    }
+
+    /**
+     * Responsible for writing out a function definition T
      *
-     * @return this node's respective proper Jott representation as a string
+     * @param out where this node's respective proper Jott representation is written
+     * @throws IOException if out cannot be written to
      */
-    public String convertToJott(){
-        String readout = "," + id.getToken() + ":" + idType.getToken();
-        if(addParam!= null){
-            readout += addParam.convertToJott();
-        }
-        return readout;
+    public void emitJott(Appendable out) throws IOException {
+        out.append(',').append(id.getToken()).append(':').append(idType.getToken());
+    }
+
+    /**
+     * Adds this node to an arena, with its tokens and children in source order
+     *
+     * @param arena the builder of the arena being filled
+     */
+    public void flatten(AstArena.Builder arena){
+        arena.open(AstKind.FUNC_DEF_PARAMS_T);
+        arena.token(id);
+        arena.token(idType);
+        arena.close();
+    }
 
+    /**
+     * Passes this node to the visitor method for its type
+     *
+     * @param visitor the visitor to pass this node to
+     * @return what the visitor gives back
+     */
+    public <R> R accept(JottTreeVisitor<R> visitor){
+        return visitor.visitFuncDefParamsT(this);
     }
 
     // functions to be in future phases
@@ -1,12 +1,14 @@
 package src.parser;
 
 import src.ParseSyntaxError;
-import src.tokenizer.*;
+import src.tokenizer.TokenStream;
 
 import static src.ErrorHandler.generateErrorString;
-import static src.ErrorHandler.printErrorParser;
-import static src.tokenizer.TokenType.*;
+import static src.ErrorHandler.syntaxError;
+import static src.parser.PredictTable.Nonterminal.FUNC_LIST;
+import static src.parser.PredictTable.Production.FUNC_DEF;
 
+import java.io.IOException;
 import java.util.ArrayList;
 
 /**
@@ -18,41 +20,90 @@ import java.util.ArrayList;
  * @author Austin Couch
  * @author Sam Harrell
  */
-public class FuncLstNode implements JottTree{
+public class FuncLstNode implements JottTree, Flattenable{
 
     private ArrayList<JottTree> nodes = new ArrayList<JottTree>();
 
     /**
      * Constructor that will try to build a function list node from the provided Jott
-     * tokens and will immediately throw a ParseSyntax error if it is unable to do so
+     * tokens and will immediately throw a ParseSyntax error if it is unable to do so,
+     * unless the tokens are a RecoveringTokenStream, in which case each broken
+     * function is kept as an ErrorNode and parsing carries on at the next function
      *
-     * @param tokens the ArrayList of Jott tokens to parse
+     * @param tokens the stream of Jott tokens to parse
      * @throws ParseSyntaxError if there are any unexpected tokens preventing the proper
      *                              formation of a representative function list
      */
-    public FuncLstNode(ArrayList<Token> tokens) throws ParseSyntaxError {
+    public FuncLstNode(TokenStream tokens) throws ParseSyntaxError {
         //checks if the next thing is an id, means the start of a function_def
         while(!tokens.isEmpty()){
-           if(tokens.get(0).getTokenType() == ID_KEYWORD && !tokens.get(0).getToken().matches("Void|Double|Integer|Boolean|String|True|False")){
-                FuncDefNode next = new FuncDefNode(tokens);
-                nodes.add(next);
-            }else{
-                printErrorParser("expected id got " + generateErrorString(tokens.get(0)), tokens.get(0).getFilename(), tokens.get(0).getLineNum());
+            int mark = tokens.mark();
+            try{
+                if(PredictTable.predict(FUNC_LIST, tokens, 0) == FUNC_DEF){
+                    FuncDefNode next = new FuncDefNode(tokens);
+                    nodes.add(next);
+                }else{
+                    syntaxError("expected id got " + generateErrorString(tokens.peek()), tokens.peek().getFilename(), tokens.peek().getLineNum());
+                }
+            }catch(ParseSyntaxError e){
+                if(!(tokens instanceof RecoveringTokenStream recovering)){
+                    throw e;
+                }
+                //skip the rest of the broken function and carry on with the next one
+                nodes.add(recovering.recoverFunction(e, mark));
             }
         }
     }
 
     /**
-     * Responsible for parsing a function list
+     * Constructor for a function list whose functions were parsed separately
      *
-     * @return this node's respective proper Jott representation as a string
+     * @param nodes the parsed functions, in the order they appear in the source
      */
-    public String convertToJott(){
-        String readout = "";
+    FuncLstNode(ArrayList<JottTree> nodes){
+        this.nodes = nodes;
+    }
+
+    /**
+     * @return the functions in this list, in the order they appear in the source
+     */
+    public ArrayList<JottTree> getFunctions(){
+        return nodes;
+    }
+
+    /**
+     * Responsible for writing out a function list
+     *
+     * @param out where this node's respective proper Jott representation is written
+     * @throws IOException if out cannot be written to
+     */
+    public void emitJott(Appendable out) throws IOException {
         for(JottTree node: nodes){
-            readout += node.convertToJott();
+            node.emitJott(out);
         }
-        return readout;
+    }
+
+    /**
+     * Adds this node to an arena, with its tokens and children in source order
+     *
+     * @param arena the builder of the arena being filled
+     */
+    public void flatten(AstArena.Builder arena){
+        arena.open(AstKind.FUNC_LIST);
+        for(JottTree node: nodes){
+            arena.child(node);
+        }
+        arena.close();
+    }
+
+    /**
+     * Passes this node to the visitor method for its type
+     *
+     * @param visitor the visitor to pass this node to
+     * @return what the visitor gives back
+     */
+    public <R> R accept(JottTreeVisitor<R> visitor){
+        return visitor.visitFuncLst(this);
     }
 
     // functions to be in future phases
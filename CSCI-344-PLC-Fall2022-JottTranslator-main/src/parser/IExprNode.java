@@ -1,14 +1,10 @@
 package src.parser;
 
-import src.ParseSyntaxError;
 import src.tokenizer.Token;
 
+import java.io.IOException;
 import java.util.ArrayList;
 
-import static src.ErrorHandler.generateErrorString;
-import static src.ErrorHandler.printErrorParser;
-import static src.tokenizer.TokenType.*;
-
 /**
  * This class is responsible for representing a parsed Jott integer expression node
  * when a JottTree is built
@@ -18,166 +14,137 @@ import static src.tokenizer.TokenType.*;
  * @author Austin Couch
  * @author Sam Harrell
  */
-public class IExprNode implements JottTree {
-
-    private Token sign1 = null;
-    private Token il1 = null;
-    private JottTree func1 = null;
-    private Token op1 = null;
-    private Token sign2 = null;
-    private Token il2 = null;
-    private JottTree func2 = null;
-    private Token op2 = null;
-    private JottTree iExpr2 = null;
+public class IExprNode extends TypedExpr implements Flattenable{
+
+    private Token sign = null;
+    private Token il = null;
+    private JottTree func = null;
+    // a chain of operands joined by ops, kept as lists so a long chain does not nest
+    private ArrayList<JottTree> operands = null;
+    private ArrayList<Token> ops = null;
 
     /**
-     * Constructor that will try to build a integer expression node from the provided Jott
-     * tokens and will immediately throw a ParseSyntax error if it is unable to do so
+     * Creates a integer expression node for a single int or id, built by the ExprParser
      *
-     * @param tokens the ArrayList of Jott tokens to parse
-     * @throws ParseSyntaxError if there are any unexpected tokens preventing the proper
-     *                              formation of a representative integer expression
+     * @param sign the sign in front of the int, or null if there is none
+     * @param il the int or id
      */
-    public IExprNode(ArrayList<Token> tokens) throws ParseSyntaxError {
-        //handles items that can start our expression
-        if(tokens.size() >= 2 &&  tokens.get(0).getTokenType() == ID_KEYWORD
-                && !tokens.get(0).getToken().matches("Void|Double|Integer|Boolean|String|True|False")) {
-            //if we see an L bracket next, we have a func call
-            if (tokens.get(1).getTokenType() == L_BRACKET){
-                func1 = new FuncCallNode(tokens);
-            }
-            else {
-                //we just have a regular id
-                il1 = tokens.remove(0);
-            }
-        }
-        else if(tokens.size() >= 2 &&  tokens.get(0).getTokenType() == NUMBER){
-            if(!tokens.get(0).getToken().contains(Character.toString('.'))){
-                //we have a valid integer with no sign
-                il1 = tokens.remove(0);
-            }
-            else{
-                printErrorParser("Expected int got double", tokens.get(0).getFilename(), tokens.get(0).getLineNum());
-            }
-        }
-        else if(tokens.size() >= 3 && (tokens.get(0).getToken().equals("+") || tokens.get(0).getToken().equals("-"))
-                && tokens.get(1).getTokenType() == NUMBER){
-            if(!tokens.get(1).getToken().contains(Character.toString('.'))){
-                //we have a valid integer with a sign
-                sign1 = tokens.remove(0);
-                il1 = tokens.remove(0);
-            }
-            else{
-                printErrorParser("Expected int got double", tokens.get(0).getFilename(), tokens.get(0).getLineNum());
-            }
-        }
-        else{
-            if(tokens.get(0).getTokenType() == MATH_OP){
-                printErrorParser("unaccompanied -/+ missing term or expr", tokens.get(0).getFilename(), tokens.get(0).getLineNum());
+    IExprNode(Token sign, Token il){
+        this.sign = sign;
+        this.il = il;
+    }
+
+    /**
+     * Creates a integer expression node for a single function call, built by the ExprParser
+     *
+     * @param func the function call
+     */
+    IExprNode(JottTree func){
+        this.func = func;
+    }
+
+    /**
+     * Creates a integer expression node for integer expressions joined by math ops of the same
+     * precedence, read left to right, built by the ExprParser
+     *
+     * @param operands the expressions, at least two
+     * @param ops the math ops, one between each pair of operands
+     */
+    IExprNode(ArrayList<JottTree> operands, ArrayList<Token> ops){
+        this.operands = operands;
+        this.ops = ops;
+    }
+
+    /**
+     * @return the sign in front of the integer, or null if there is none
+     */
+    public Token getSign(){
+        return sign;
+    }
+
+    /**
+     * @return the integer or id, or null if this is a function call or a chain
+     */
+    public Token getValue(){
+        return il;
+    }
+
+    /**
+     * @return the function call, or null if this is not one
+     */
+    public JottTree getFunc(){
+        return func;
+    }
+
+    /**
+     * @return the expressions joined by math ops, or null if this is not a chain
+     */
+    public ArrayList<JottTree> getOperands(){
+        return operands;
+    }
+
+    /**
+     * @return the math ops, one between each pair of operands, or null if this is not a chain
+     */
+    public ArrayList<Token> getOps(){
+        return ops;
+    }
+
+    /**
+     * Responsible for writing out a integer expression
+     *
+     * @param out where this node's respective proper Jott representation is written
+     * @throws IOException if out cannot be written to
+     */
+    public void emitJott(Appendable out) throws IOException {
+        if(ops != null){
+            operands.get(0).emitJott(out);
+            for(int i = 0; i < ops.size(); i++){
+                out.append(ops.get(i).getToken());
+                operands.get(i + 1).emitJott(out);
             }
-            printErrorParser("Expected i expr start got " + generateErrorString(tokens.get(0)), tokens.get(0).getFilename(), tokens.get(0).getLineNum());
-        }
-        //if this is the end of our expression we can stop searching here
-        if(tokens.get(0).getTokenType() == SEMICOLON || tokens.get(0).getTokenType() == R_BRACKET
-                || tokens.get(0).getTokenType() == COMMA || tokens.get(0).getTokenType() == REL_OP) {
-            return;
-        }else if(tokens.get(0).getTokenType() == MATH_OP){
-            //we have an op after our first term
-            op1 = tokens.remove(0);
-        }else {
-            String pre = "";
-            if(il1 != null){
-                pre = "int";
-            }else if(func1 != null){
-                pre = "func call";
+        }else if(func != null){
+            func.emitJott(out);
+        }else{
+            if(sign != null){
+                out.append(sign.getToken());
             }
-            printErrorParser("Unexpected token - " + generateErrorString(tokens.get(0)) + " after " + pre, tokens.get(0).getFilename(), tokens.get(0).getLineNum());
+            out.append(il.getToken());
         }
+    }
 
-        //again check to see if the right half is a valid i_expr
-        if(tokens.size() >= 2 &&  tokens.get(0).getTokenType() == ID_KEYWORD
-                && !tokens.get(0).getToken().matches("Void|Double|Integer|Boolean|String|True|False")) {
-            //if we see an L bracket next, we have a func call
-            if (tokens.get(1).getTokenType() == L_BRACKET) {
-                func2 = new FuncCallNode(tokens);
-            } else {
-                //we just have a regular id
-                il2 = tokens.remove(0);
-            }
-        }else if(tokens.size() >= 2 &&  tokens.get(0).getTokenType() == NUMBER){
-            if(!tokens.get(0).getToken().contains(Character.toString('.'))){
-                //we have a valid integer with no sign
-                il2 = tokens.remove(0);
-            }else{
-                printErrorParser("Expected int got double", tokens.get(0).getFilename(), tokens.get(0).getLineNum());
-            }
-        }else if(tokens.size() >= 3 && (tokens.get(0).getToken().equals("+") || tokens.get(0).getToken().equals("-"))
-                && tokens.get(1).getTokenType() == NUMBER) {
-            if(!tokens.get(1).getToken().contains(Character.toString('.'))){
-                //we have a valid integer with a sign
-                sign2 = tokens.remove(0);
-                il2 = tokens.remove(0);
-            }else{
-                printErrorParser("Expected int got double", tokens.get(0).getFilename(), tokens.get(0).getLineNum());
+    /**
+     * Adds this node to an arena, with its tokens and children in source order
+     *
+     * @param arena the builder of the arena being filled
+     */
+    public void flatten(AstArena.Builder arena){
+        arena.open(AstKind.I_EXPR);
+        if(ops != null){
+            arena.child(operands.get(0));
+            for(int i = 0; i < ops.size(); i++){
+                arena.token(ops.get(i));
+                arena.child(operands.get(i + 1));
             }
+        }else if(func != null){
+            arena.child(func);
         }else{
-            if(tokens.get(0).getTokenType() == MATH_OP){
-                printErrorParser("unaccompanied -/+ missing term or expr", tokens.get(0).getFilename(), tokens.get(0).getLineNum());
-            }
-            printErrorParser("Expected i expr term got " + generateErrorString(tokens.get(0)), tokens.get(0).getFilename(), tokens.get(0).getLineNum());
-        }
-        //if this is the end of our full expression we can stop here
-        if(tokens.get(0).getTokenType() == SEMICOLON || tokens.get(0).getTokenType() == R_BRACKET
-                || tokens.get(0).getTokenType() == COMMA || tokens.get(0).getTokenType() == REL_OP) {
-            return;
-        }else if(tokens.get(0).getTokenType() == MATH_OP){
-            //then this is the starting i expr of a 2 i expr term
-            op2 = tokens.remove(0);
-            iExpr2 = new IExprNode(tokens);
-        }else {
-            String pre = "";
-            if(il2 != null){
-                pre = "int";
-            }else if(func2 != null){
-                pre = "func call";
+            if(sign != null){
+                arena.token(sign);
             }
-            printErrorParser("Unexpected token - " + generateErrorString(tokens.get(0)) + " after " + pre, tokens.get(0).getFilename(), tokens.get(0).getLineNum());
+            arena.token(il);
         }
-
+        arena.close();
     }
 
     /**
-     * Responsible for parsing a integer expression
+     * Passes this node to the visitor method for its type
      *
-     * @return this node's respective proper Jott representation as a string
+     * @param visitor the visitor to pass this node to
+     * @return what the visitor gives back
      */
-    public String convertToJott(){
-        String readout = "";
-        if(sign1 != null){
-            readout += sign1.getToken();
-        }
-        if(il1 != null){
-            readout += il1.getToken();
-        }
-        if(func1 != null){
-            readout += func1.convertToJott();
-        }
-        if(op1 != null){
-            readout += op1.getToken();
-        }
-        if(sign2 != null){
-            readout += sign2.getToken();
-        }
-        if(il2 != null){
-            readout += il2.getToken();
-        }
-        if(func2 != null){
-            readout += func2.convertToJott();
-        }
-        if(op2 != null){
-            readout += op2.getToken() + iExpr2.convertToJott();
-        }
-        return readout;
+    public <R> R accept(JottTreeVisitor<R> visitor){
+        return visitor.visitIExpr(this);
     }
 
     // functions to be in future phases
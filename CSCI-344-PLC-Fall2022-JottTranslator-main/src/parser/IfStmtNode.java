@@ -1,12 +1,17 @@
 package src.parser;
 
 import src.ParseSyntaxError;
+import src.tokenizer.Keywords;
 import src.tokenizer.Token;
+import src.tokenizer.TokenStream;
 
-import java.util.ArrayList;
-
-import static src.ErrorHandler.printErrorParser;
+import static src.ErrorHandler.expectToken;
+import static src.ErrorHandler.syntaxError;
 import static src.tokenizer.TokenType.*;
+import static src.tokenizer.Keyword.ELSE;
+import static src.tokenizer.Keyword.ELSEIF;
+
+import java.io.IOException;
 
 /**
  * This class is responsible for representing a parsed Jott if statement node
@@ -17,7 +22,7 @@ import static src.tokenizer.TokenType.*;
  * @author Austin Couch
  * @author Sam Harrell
  */
-public class IfStmtNode implements JottTree{
+public class IfStmtNode implements JottTree, Flattenable{
 
     private JottTree cond;
     private JottTree body;
@@ -28,53 +33,110 @@ public class IfStmtNode implements JottTree{
      * Constructor that will try to build an if statement node from the provided Jott
      * tokens and will immediately throw a ParseSyntax error if it is unable to do so
      *
-     * @param tokens the ArrayList of Jott tokens to parse
+     * @param tokens the stream of Jott tokens to parse
      * @throws ParseSyntaxError if there are any unexpected tokens preventing the proper
      *                              formation of a representative if statement
      */
-    public IfStmtNode(ArrayList<Token> tokens) throws ParseSyntaxError {
+    public IfStmtNode(TokenStream tokens) throws ParseSyntaxError {
         //if we are in this node, the function list detected an if token
-        Token i = tokens.remove(0);
-        printErrorParser(tokens, L_BRACKET, i, "if stmt missing [", "expected [ got ");
-        tokens.remove(0);
-        if(!tokens.isEmpty() && tokens.get(0).getTokenType() != R_BRACKET){// b_expr can start with basically anything, let it handle itself
-            cond = new BExprNode(tokens);
+        Token i = tokens.next();
+        expectToken(tokens, L_BRACKET, i, "if stmt missing [", "expected [ got ");
+        tokens.next();
+        if(!tokens.isEmpty() && tokens.peek().getTokenType() != R_BRACKET){// b_expr can start with basically anything, let it handle itself
+            cond = ExprParser.parseBool(tokens);
         }else{
             //however, if the next thing we see is an r bracket, we dont have cond, which is an issue
-            printErrorParser("if stmt missing condition", tokens.get(0).getFilename(),tokens.get(0).getLineNum());
+            Token at = tokens.isEmpty() ? i : tokens.peek();
+            syntaxError("if stmt missing condition", at.getFilename(), at.getLineNum());
         }
-        printErrorParser(tokens, R_BRACKET, i, "if stmt missing ]", "expected ] got ");
-        tokens.remove(0);
-        printErrorParser(tokens, L_BRACE, i, "if stmt missing {", "expected { got ");
-        tokens.remove(0);
+        expectToken(tokens, R_BRACKET, i, "if stmt missing ]", "expected ] got ");
+        tokens.next();
+        expectToken(tokens, L_BRACE, i, "if stmt missing {", "expected { got ");
+        tokens.next();
         //let body handle its own checking
         if(!tokens.isEmpty()){
             body = new BodyNode(tokens);
         }
-        printErrorParser(tokens, R_BRACE, i, "if stmt missing }", "expected } got ");
-        tokens.remove(0);
-        if(!tokens.isEmpty() && tokens.get(0).getToken().equals("elseif")){
+        expectToken(tokens, R_BRACE, i, "if stmt missing }", "expected } got ");
+        tokens.next();
+        if(!tokens.isEmpty() && Keywords.is(tokens.peek(), ELSEIF)){
             elseIf = new ElseIfLstNode(tokens);
         }
-        if(!tokens.isEmpty() && tokens.get(0).getToken().equals("else")){
+        if(!tokens.isEmpty() && Keywords.is(tokens.peek(), ELSE)){
             elseCase = new ElseNode(tokens);
         }
     }
 
     /**
-     * Responsible for parsing an if statement
+     * @return the condition of the if
+     */
+    public JottTree getCond(){
+        return cond;
+    }
+
+    /**
+     * @return the body of the if
+     */
+    public JottTree getBody(){
+        return body;
+    }
+
+    /**
+     * @return the elseif list, or null if there is none
+     */
+    public JottTree getElseIf(){
+        return elseIf;
+    }
+
+    /**
+     * @return the else, or null if there is none
+     */
+    public JottTree getElse(){
+        return elseCase;
+    }
+
+    /**
+     * Responsible for writing out an if statement
      *
-     * @return this node's respective proper Jott representation as a string
+     * @param out where this node's respective proper Jott representation is written
+     * @throws IOException if out cannot be written to
      */
-    public String convertToJott(){
-        String readout = "if[" + cond.convertToJott() + "]{" + body.convertToJott() + "}";
+    public void emitJott(Appendable out) throws IOException {
+        out.append("if[");
+        cond.emitJott(out);
+        out.append("]{");
+        body.emitJott(out);
+        out.append('}');
         if(elseIf != null){
-            readout += elseIf.convertToJott();
+            elseIf.emitJott(out);
         }
         if(elseCase != null){
-            readout += elseCase.convertToJott();
+            elseCase.emitJott(out);
         }
-        return readout;
+    }
+
+    /**
+     * Adds this node to an arena, with its tokens and children in source order
+     *
+     * @param arena the builder of the arena being filled
+     */
+    public void flatten(AstArena.Builder arena){
+        arena.open(AstKind.IF_STMT);
+        arena.child(cond);
+        arena.child(body);
+        arena.child(elseIf);
+        arena.child(elseCase);
+        arena.close();
+    }
+
+    /**
+     * Passes this node to the visitor method for its type
+     *
+     * @param visitor the visitor to pass this node to
+     * @return what the visitor gives back
+     */
+    public <R> R accept(JottTreeVisitor<R> visitor){
+        return visitor.visitIfStmt(this);
     }
 
     // functions to be in future phases
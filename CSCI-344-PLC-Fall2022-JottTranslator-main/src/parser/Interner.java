@@ -0,0 +1,106 @@
+package src.parser;
+
+import java.util.Arrays;
+
+/**
+ * This class is responsible for giving each distinct name a small int id, so
+ * tables keyed by name can be plain arrays indexed by id. Ids are handed out
+ * in order from 0. Names are kept in an open addressing hash table with linear
+ * probing that is never more than half full, so finding a name takes O(1) on
+ * average with no objects made per lookup.
+ *
+ * @author Hritik "Ricky" Gupta
+ * @author Griffin Danner-Doran
+ * @author Austin Couch
+ * @author Sam Harrell
+ */
+final class Interner {
+    private static final int NONE = -1;
+
+    // the name in each slot and its id, or null and NONE for an empty slot
+    private String[] keys = new String[16];
+    private int[] ids = new int[16];
+    private String[] names = new String[8];
+    private int size = 0;
+
+    Interner(){
+        Arrays.fill(ids, NONE);
+    }
+
+    /**
+     * @return how many names have ids
+     */
+    int size(){
+        return size;
+    }
+
+    /**
+     * Gets the id of a name, giving it the next id if it does not have one
+     *
+     * @param name the name
+     * @return the id of the name
+     */
+    int intern(String name){
+        int slot = slot(name);
+        if(ids[slot] != NONE){
+            return ids[slot];
+        }
+        if(size == names.length){
+            names = Arrays.copyOf(names, size * 2);
+        }
+        names[size] = name;
+        keys[slot] = name;
+        ids[slot] = size;
+        if(++size * 2 > keys.length){
+            grow();
+        }
+        return size - 1;
+    }
+
+    /**
+     * Gets the id of a name without giving it one, so a table that is done
+     * being filled can be read from any number of threads
+     *
+     * @param name the name
+     * @return the id of the name, or -1 if it does not have one
+     */
+    int find(String name){
+        return ids[slot(name)];
+    }
+
+    /**
+     * @param id the id of a name
+     * @return the name
+     */
+    String name(int id){
+        return names[id];
+    }
+
+    /**
+     * @return the slot holding the name, or the empty slot it would go in
+     */
+    private int slot(String name){
+        int mask = keys.length - 1;
+        int h = name.hashCode();
+        int slot = (h ^ h >>> 16) & mask;
+        while(keys[slot] != null && !keys[slot].equals(name)){
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void grow(){
+        String[] oldKeys = keys;
+        int[] oldIds = ids;
+        keys = new String[oldKeys.length * 2];
+        ids = new int[oldKeys.length * 2];
+        Arrays.fill(ids, NONE);
+        for(int i = 0; i < oldKeys.length; i++){
+            if(oldKeys[i] != null){
+                int slot = slot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                ids[slot] = oldIds[i];
+            }
+        }
+    }
+}
@@ -1,9 +1,24 @@
 package src.parser;
 
 import src.ParseSyntaxError;
+import src.tokenizer.JottTokenizer;
+import src.tokenizer.ListTokenStream;
+import src.tokenizer.SourceTokenStream;
 import src.tokenizer.Token;
+import src.tokenizer.TokenBuffer;
+import src.tokenizer.TokenSource;
+import src.tokenizer.TokenStream;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import static src.ErrorHandler.printErrorParser;
+import static src.ErrorHandler.syntaxError;
+import static src.tokenizer.TokenType.L_BRACE;
+import static src.tokenizer.TokenType.R_BRACE;
 
 /**
  * This class is responsible for parsing Jott Tokens
@@ -16,6 +31,30 @@ import java.util.ArrayList;
  */
 public class JottParser {
 
+    /**
+     * The default for how deeply bodies and function calls can be nested before the
+     * parser reports a syntax error, which keeps it from running out of stack on
+     * machine-generated Jott. Long chains of ops, params and elseifs do not nest,
+     * so they are not limited. Each parse that takes a maxDepth can be given another limit.
+     */
+    public static final int DEFAULT_MAX_DEPTH = TokenStream.DEFAULT_MAX_DEPTH;
+
+    /**
+     * Notes that the parser has gone into a nested body or function call, and stops
+     * the parse if that goes past the max depth of the stream. A call that returns must be paired
+     * with a call to tokens.ascend() once the construct is done, whether or not it
+     * parsed; a call that throws has already put the depth back
+     * @param tokens the stream of Jott tokens being parsed
+     * @param start the token the nested construct starts at
+     * @throws ParseSyntaxError if the construct is nested too deeply
+     */
+    static void descend(TokenStream tokens, Token start) throws ParseSyntaxError {
+        if(tokens.descend() > tokens.getMaxDepth()){
+            tokens.ascend();
+            syntaxError("nesting deeper than " + tokens.getMaxDepth() + " levels", start.getFilename(), start.getLineNum());
+        }
+    }
+
     /**
      * Parses an ArrayList of Jotton tokens into a Jott Parse Tree.
      * @param tokens the ArrayList of Jott tokens to parse
@@ -23,15 +62,347 @@ public class JottParser {
      *         or null upon an error in parsing.
      */
     public static JottTree parse(ArrayList<Token> tokens){
+        return parse(tokens, DEFAULT_MAX_DEPTH);
+    }
+
+    /**
+     * Parses an ArrayList of Jotton tokens into a Jott Parse Tree, allowing bodies
+     * and function calls to be nested a given depth.
+     * @param tokens the ArrayList of Jott tokens to parse
+     * @param maxDepth the deepest nesting allowed, at least 1
+     * @return the root of the Jott Parse Tree represented by the tokens.
+     *         or null upon an error in parsing.
+     */
+    public static JottTree parse(ArrayList<Token> tokens, int maxDepth){
         if(tokens.isEmpty()){
             return null;
         }else{
             try {
-                ProgramNode programRoot = new ProgramNode(tokens);
+                ProgramNode programRoot = new ProgramNode(new ListTokenStream(tokens, maxDepth));
                 return programRoot;
             }catch(ParseSyntaxError p){
+                printErrorParser(p);
                 return null;
             }//may need to catch out of bounds access errors if the missing symbol is the last in a parse
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Parses an ArrayList of Jott tokens into a Jott Parse Tree, carrying on past
+     * syntax errors so that one parse finds all of them. Each broken statement or
+     * function is skipped and left in the tree as an ErrorNode.
+     * @param tokens the ArrayList of Jott tokens to parse
+     * @param errors the list every syntax error found is added to, in the order they were found
+     * @return the root of the Jott Parse Tree represented by the tokens, which
+     *         holds an ErrorNode for each error, or null if there are no tokens.
+     */
+    public static JottTree parse(ArrayList<Token> tokens, List<ParseSyntaxError> errors){
+        return parse(tokens, errors, DEFAULT_MAX_DEPTH);
+    }
+
+    /**
+     * Parses an ArrayList of Jott tokens into a Jott Parse Tree, carrying on past
+     * syntax errors and allowing bodies and function calls to be nested a given depth.
+     * @param tokens the ArrayList of Jott tokens to parse
+     * @param errors the list every syntax error found is added to, in the order they were found
+     * @param maxDepth the deepest nesting allowed, at least 1
+     * @return the root of the Jott Parse Tree represented by the tokens, which
+     *         holds an ErrorNode for each error, or null if there are no tokens.
+     */
+    public static JottTree parse(ArrayList<Token> tokens, List<ParseSyntaxError> errors, int maxDepth){
+        if(tokens.isEmpty()){
+            return null;
+        }
+        RecoveringTokenStream stream = new RecoveringTokenStream(tokens, maxDepth);
+        try {
+            ProgramNode programRoot = new ProgramNode(stream);
+            errors.addAll(stream.getErrors());
+            return programRoot;
+        }catch(ParseSyntaxError p){
+            //the function list recovers from every error, so this cannot happen
+            throw new IllegalStateException(p);
+        }
+    }
+
+    /**
+     * Parses an ArrayList of Jotton tokens into a Jott Parse Tree, parsing only the
+     * header of each function. A function's body is found by matching braces and is
+     * parsed the first time it is asked for with {@link FuncDefNode#getBody()}, so
+     * an error inside a body is only printed, in the same form as any other
+     * syntax error, and thrown then. A body that is never closed is
+     * parsed straight away.
+     * @param tokens the ArrayList of Jott tokens to parse
+     * @return the root of the Jott Parse Tree represented by the tokens.
+     *         or null upon an error in parsing.
+     */
+    public static JottTree parseLazy(ArrayList<Token> tokens){
+        return parseLazy(tokens, DEFAULT_MAX_DEPTH);
+    }
+
+    /**
+     * Parses an ArrayList of Jotton tokens into a Jott Parse Tree as
+     * {@link #parseLazy(ArrayList)} does, allowing bodies and function calls to be
+     * nested a given depth, both now and when a body is parsed later.
+     * @param tokens the ArrayList of Jott tokens to parse
+     * @param maxDepth the deepest nesting allowed, at least 1
+     * @return the root of the Jott Parse Tree represented by the tokens.
+     *         or null upon an error in parsing.
+     */
+    public static JottTree parseLazy(ArrayList<Token> tokens, int maxDepth){
+        if(tokens.isEmpty()){
+            return null;
+        }else{
+            try {
+                return new ProgramNode(new LazyTokenStream(tokens, maxDepth));
+            }catch(ParseSyntaxError p){
+                printErrorParser(p);
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Parses an ArrayList of Jotton tokens into a Jott Parse Tree, parsing the
+     * functions of a large program on separate threads. The tokens are first
+     * split between functions by matching braces, as every function ends on the }
+     * that closes its body. The result, including any error reported, is the same
+     * as {@link #parse(ArrayList)}
+     * @param tokens the ArrayList of Jott tokens to parse
+     * @return the root of the Jott Parse Tree represented by the tokens.
+     *         or null upon an error in parsing.
+     */
+    public static JottTree parseParallel(ArrayList<Token> tokens){
+        return parseParallel(tokens, DEFAULT_MAX_DEPTH);
+    }
+
+    /**
+     * Parses an ArrayList of Jotton tokens into a Jott Parse Tree as
+     * {@link #parseParallel(ArrayList)} does, allowing bodies and function calls
+     * to be nested a given depth.
+     * @param tokens the ArrayList of Jott tokens to parse
+     * @param maxDepth the deepest nesting allowed, at least 1
+     * @return the root of the Jott Parse Tree represented by the tokens.
+     *         or null upon an error in parsing.
+     */
+    public static JottTree parseParallel(ArrayList<Token> tokens, int maxDepth){
+        if(tokens.isEmpty()){
+            return null;
+        }
+        int[] bounds = functionBounds(tokens);
+        ParsedFunctions result = ForkJoinPool.commonPool().invoke(new Functions(tokens, bounds, maxDepth, 0, bounds.length - 1));
+        if(result.error != null){
+            printErrorParser(result.error);
+            return null;
+        }
+        return new ProgramNode(new FuncLstNode(result.functions));
+    }
+
+    /**
+     * Parses a TokenBuffer into a Jott Parse Tree, then compacts the tree into an
+     * AstArena. The tree is parsed as {@link #parse(ArrayList)} does, as an object
+     * tree over a Token for every entry of the buffer; once the parse is done it is
+     * copied into the arena, and only the arena and the buffer are kept. This
+     * lowers the memory a tree holds once parsed, not the peak memory of the parse.
+     * @param buffer the Jott tokens to parse
+     * @return a view of the root of the Jott Parse Tree in its arena,
+     *         or null upon an error in parsing.
+     */
+    public static JottTree parseAndCompact(TokenBuffer buffer){
+        ArrayList<Token> tokens = buffer.toTokenList();
+        JottTree tree = parse(tokens);
+        if(tree == null){
+            return null;
+        }
+        return AstArena.compact(tree, buffer, tokens).root();
+    }
+
+    /**
+     * Tokenizes and parses Jott source that is already in memory into a Jott Parse Tree.
+     * @param source the Jott source to parse
+     * @param sourceName the name reported for this source in errors
+     * @return the root of the Jott Parse Tree represented by the source.
+     *         or null upon an error in tokenizing or parsing.
+     */
+    public static JottTree parse(CharSequence source, String sourceName){
+        ArrayList<Token> tokens = JottTokenizer.tokenize(source, sourceName);
+        if(tokens == null){
+            return null;
+        }
+        return parse(tokens);
+    }
+
+    /**
+     * Parses the Jott tokens read from a source into a Jott Parse Tree. Tokens are
+     * read from the source as the parse reaches them and let go once it is past
+     * them, so the whole file is never held as a list of tokens. Only this plain
+     * parse reads from a source; the recovering, lazy and parallel parses need
+     * every token up front.
+     * @param source the source of Jott tokens to parse, which is left open
+     * @return the root of the Jott Parse Tree represented by the tokens.
+     *         or null upon an error in tokenizing or parsing.
+     */
+    public static JottTree parse(TokenSource source){
+        return parse(source, DEFAULT_MAX_DEPTH);
+    }
+
+    /**
+     * Parses the Jott tokens read from a source into a Jott Parse Tree as
+     * {@link #parse(TokenSource)} does, allowing bodies and function calls to be
+     * nested a given depth.
+     * @param source the source of Jott tokens to parse, which is left open
+     * @param maxDepth the deepest nesting allowed, at least 1
+     * @return the root of the Jott Parse Tree represented by the tokens.
+     *         or null upon an error in tokenizing or parsing.
+     */
+    public static JottTree parse(TokenSource source, int maxDepth){
+        SourceTokenStream tokens = new SourceTokenStream(source, maxDepth);
+        if(tokens.isEmpty()){
+            return null;
+        }
+        try {
+            ProgramNode programRoot = new ProgramNode(tokens);
+            return source.hasError() ? null : programRoot;
+        }catch(ParseSyntaxError p){
+            //an invalid token anywhere in the file is reported instead of a syntax error,
+            //as it is when the file is tokenized up front, so the rest is read to find one
+            while(source.hasNext()){
+                source.next();
+            }
+            if(!source.hasError()){
+                printErrorParser(p);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Tokenizes and parses Jott source that is already in memory into a Jott Parse Tree,
+     * tokenizing and parsing a large source on separate threads.
+     * @param source the Jott source to parse
+     * @param sourceName the name reported for this source in errors
+     * @return the root of the Jott Parse Tree represented by the source.
+     *         or null upon an error in tokenizing or parsing.
+     */
+    public static JottTree parseParallel(CharSequence source, String sourceName){
+        TokenBuffer buffer = JottTokenizer.tokenizeToBufferParallel(source, sourceName);
+        if(buffer == null){
+            return null;
+        }
+        return parseParallel(buffer.toTokenList());
+    }
+
+    /**
+     * Finds where each top level span of tokens ends, a span ending on a } that
+     * closes every brace opened in it. A } with nothing open ends a span by itself.
+     *
+     * @param tokens the tokens of the program
+     * @return the index each span starts at, followed by the number of tokens
+     */
+    private static int[] functionBounds(ArrayList<Token> tokens){
+        int[] bounds = new int[16];
+        int count = 1;
+        int depth = 0;
+        for(int i = 0; i < tokens.size(); i++){
+            if(tokens.get(i).getTokenType() == L_BRACE){
+                depth++;
+                continue;
+            }
+            if(tokens.get(i).getTokenType() != R_BRACE){
+                continue;
+            }
+            if(depth > 0){
+                depth--;
+            }
+            if(depth == 0 && i + 1 < tokens.size()){
+                if(count == bounds.length){
+                    bounds = Arrays.copyOf(bounds, count * 2);
+                }
+                bounds[count++] = i + 1;
+            }
+        }
+        bounds = Arrays.copyOf(bounds, count + 1);
+        bounds[count] = tokens.size();
+        return bounds;
+    }
+
+    /**
+     * The functions parsed from some spans of a program, and the error that
+     * stopped the parse of them if there was one
+     */
+    private static class ParsedFunctions {
+        private final ArrayList<JottTree> functions;
+        private ParseSyntaxError error;
+
+        private ParsedFunctions(ArrayList<JottTree> functions, ParseSyntaxError error){
+            this.functions = functions;
+            this.error = error;
+        }
+    }
+
+    /**
+     * Parses a run of spans, splitting it in two between spans and parsing the
+     * halves separately while it holds more than PARSE_SIZE tokens. The parser
+     * never looks past the } that ends a function, so a span parses the same
+     * on its own as it does as part of the whole program
+     */
+    @SuppressWarnings("serial") // only ever run in a pool, never serialized
+    private static class Functions extends RecursiveTask<ParsedFunctions> {
+        private static final int PARSE_SIZE = 1 << 14;
+
+        private final ArrayList<Token> tokens;
+        private final int[] bounds;
+        private final int maxDepth;
+        private final int from;
+        private final int to;
+
+        private Functions(ArrayList<Token> tokens, int[] bounds, int maxDepth, int from, int to){
+            this.tokens = tokens;
+            this.bounds = bounds;
+            this.maxDepth = maxDepth;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected ParsedFunctions compute(){
+            int split = splitPoint();
+            if(split <= from || split >= to){
+                return parse();
+            }
+
+            Functions left = new Functions(tokens, bounds, maxDepth, from, split);
+            left.fork();
+            ParsedFunctions right = new Functions(tokens, bounds, maxDepth, split, to).compute();
+            ParsedFunctions result = left.join();
+
+            // a syntax error ends the parse, so nothing after the first one is kept
+            if(result.error == null){
+                result.functions.addAll(right.functions);
+                result.error = right.error;
+            }
+            return result;
+        }
+
+        /**
+         * @return the span holding the middle token of the run, or -1 if the run
+         *         is small enough to parse in one go or is being parsed outside of a pool
+         */
+        private int splitPoint(){
+            if(bounds[to] - bounds[from] <= PARSE_SIZE || !inForkJoinPool()){
+                return -1;
+            }
+            int middle = bounds[from] + (bounds[to] - bounds[from]) / 2;
+            int split = Arrays.binarySearch(bounds, from, to, middle);
+            return split >= 0 ? split : -split - 1;
+        }
+
+        private ParsedFunctions parse(){
+            try{
+                FuncLstNode functions = new FuncLstNode(new ListTokenStream(tokens.subList(bounds[from], bounds[to]), maxDepth));
+                return new ParsedFunctions(functions.getFunctions(), null);
+            }catch(ParseSyntaxError p){
+                return new ParsedFunctions(new ArrayList<>(), p);
+            }
+        }
+    }
+}
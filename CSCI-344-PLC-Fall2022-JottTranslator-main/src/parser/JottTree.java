@@ -1,5 +1,8 @@
 package src.parser;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 /**
  * Interface for all Jott parse tree nodes
  *
@@ -7,11 +10,35 @@ package src.parser;
  */
 public interface JottTree {
 
+    /**
+     * Will write this tree in Jott to out a piece at a time, so the output of a
+     * large tree is never built up as one string
+     * @param out where the Jott code of this tree is written
+     * @throws IOException if out cannot be written to
+     */
+    public void emitJott(Appendable out) throws IOException;
+
     /**
      * Will output a string of this tree in Jott
      * @return a string representing the Jott code of this tree
      */
-    public String convertToJott();
+    public default String convertToJott(){
+        StringBuilder out = new StringBuilder();
+        try{
+            emitJott(out);
+        }catch(IOException e){
+            //a StringBuilder does not throw, so this cannot happen
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Will pass this tree's root node to the visitor method for its type
+     * @param visitor the visitor to pass the node to
+     * @return what the visitor gives back
+     */
+    public <R> R accept(JottTreeVisitor<R> visitor);
 
     /**
      * Will output a string of this tree in Java
@@ -0,0 +1,57 @@
+package src.parser;
+
+/**
+ * Interface for passes over a Jott parse tree. Each node's accept method calls
+ * the visit method for its own type, so a pass can handle each kind of node
+ * without casting or checking types.
+ *
+ * Every visit method passes the node on to visitNode unless it is overridden,
+ * so a pass only needs to write the methods for the nodes it cares about, and
+ * a pass that treats every node the same can be written as a lambda.
+ *
+ * @param <R> the type given back by each visit
+ *
+ * @author Hritik "Ricky" Gupta
+ * @author Griffin Danner-Doran
+ * @author Austin Couch
+ * @author Sam Harrell
+ */
+@FunctionalInterface
+public interface JottTreeVisitor<R> {
+
+    /**
+     * Visits a node whose visit method is not overridden
+     *
+     * @param node the node being visited
+     * @return the result of the visit
+     */
+    R visitNode(JottTree node);
+
+    default R visitProgram(ProgramNode node){return visitNode(node);}
+    default R visitFuncLst(FuncLstNode node){return visitNode(node);}
+    default R visitFuncDef(FuncDefNode node){return visitNode(node);}
+    default R visitFuncDefParams(FuncDefParamsNode node){return visitNode(node);}
+    default R visitFuncDefParamsT(FuncDefParamsTNode node){return visitNode(node);}
+    default R visitBody(BodyNode node){return visitNode(node);}
+    default R visitBodyStmt(BodyStmtNode node){return visitNode(node);}
+    default R visitReturnStmt(ReturnStmtNode node){return visitNode(node);}
+    default R visitIfStmt(IfStmtNode node){return visitNode(node);}
+    default R visitElseIfLst(ElseIfLstNode node){return visitNode(node);}
+    default R visitElse(ElseNode node){return visitNode(node);}
+    default R visitWhileStmt(WhileStmtNode node){return visitNode(node);}
+    default R visitStmt(StmtNode node){return visitNode(node);}
+    default R visitAsmt(AsmtNode node){return visitNode(node);}
+    default R visitVarDec(VarDecNode node){return visitNode(node);}
+    default R visitFuncCall(FuncCallNode node){return visitNode(node);}
+    default R visitParams(ParamsNode node){return visitNode(node);}
+    default R visitParamsT(ParamsTNode node){return visitNode(node);}
+    default R visitExpr(ExprNode node){return visitNode(node);}
+    default R visitIExpr(IExprNode node){return visitNode(node);}
+    default R visitDExpr(DExprNode node){return visitNode(node);}
+    default R visitSExpr(SExprNode node){return visitNode(node);}
+    default R visitBExpr(BExprNode node){return visitNode(node);}
+    // the stand in for a broken statement or function in a tree parsed with error recovery
+    default R visitError(ErrorNode node){return visitNode(node);}
+    // a node of a tree held in an AstArena, whatever its kind
+    default R visitArenaNode(ArenaNode node){return visitNode(node);}
+}
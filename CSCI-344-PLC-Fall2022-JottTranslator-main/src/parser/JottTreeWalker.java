@@ -0,0 +1,232 @@
+package src.parser;
+
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class is responsible for walking every node of a Jott parse tree in
+ * source order. The nodes still to be walked are kept on a stack of its own
+ * rather than on the call stack, so a tree of any depth can be walked.
+ *
+ * Each node is passed to an enter visitor before its children, and to an exit
+ * visitor after them. An enter visit that gives back Boolean.FALSE skips the
+ * children of its node.
+ *
+ * @author Hritik "Ricky" Gupta
+ * @author Griffin Danner-Doran
+ * @author Austin Couch
+ * @author Sam Harrell
+ */
+public final class JottTreeWalker {
+
+    private JottTreeWalker(){}
+
+    /**
+     * Walks a tree, passing each node to a visitor before its children
+     *
+     * @param root the root of the tree
+     * @param visitor the visitor each node is passed to
+     */
+    public static void walk(JottTree root, JottTreeVisitor<?> visitor){
+        walk(root, visitor, null);
+    }
+
+    /**
+     * Walks a tree, passing each node to one visitor before its children and
+     * another after them. A function body left for later by a lazy parse is parsed
+     * when it is reached, and an IllegalStateException is thrown if it does not parse
+     *
+     * @param root the root of the tree
+     * @param enter the visitor each node is passed to before its children
+     * @param exit the visitor each node is passed to after its children, or null if there is none
+     */
+    public static void walk(JottTree root, JottTreeVisitor<?> enter, JottTreeVisitor<?> exit){
+        Children children = new Children();
+        ArrayDeque<Frame> stack = new ArrayDeque<>();
+        stack.push(open(root, enter, children));
+        while(!stack.isEmpty()){
+            Frame top = stack.peek();
+            if(top.children != null && top.next < top.children.size()){
+                stack.push(open(top.children.get(top.next++), enter, children));
+            }else{
+                stack.pop();
+                if(exit != null){
+                    top.node.accept(exit);
+                }
+            }
+        }
+    }
+
+    private static Frame open(JottTree node, JottTreeVisitor<?> enter, Children children){
+        boolean descend = !Boolean.FALSE.equals(node.accept(enter));
+        return new Frame(node, descend ? children.of(node) : null);
+    }
+
+    /**
+     * A node being walked, and how many of its children have been walked so far
+     */
+    private static class Frame {
+        private final JottTree node;
+        private final List<JottTree> children;
+        private int next = 0;
+
+        private Frame(JottTree node, List<JottTree> children){
+            this.node = node;
+            this.children = children;
+        }
+    }
+
+    /**
+     * Lists the children of a node in source order, leaving out any that are not there
+     */
+    private static class Children implements JottTreeVisitor<Void> {
+        private ArrayList<JottTree> list;
+
+        private List<JottTree> of(JottTree node){
+            list = new ArrayList<>();
+            node.accept(this);
+            return list;
+        }
+
+        private void add(JottTree child){
+            if(child != null){
+                list.add(child);
+            }
+        }
+
+        private void addAll(List<JottTree> children){
+            if(children != null){
+                list.addAll(children);
+            }
+        }
+
+        // nodes with no children
+        public Void visitNode(JottTree node){return null;}
+
+        public Void visitProgram(ProgramNode node){
+            add(node.getFunctionList());
+            return null;
+        }
+
+        public Void visitFuncLst(FuncLstNode node){
+            addAll(node.getFunctions());
+            return null;
+        }
+
+        public Void visitFuncDef(FuncDefNode node){
+            add(node.getParams());
+            add(node.parsedBody());
+            return null;
+        }
+
+        public Void visitFuncDefParams(FuncDefParamsNode node){
+            addAll(node.getRest());
+            return null;
+        }
+
+        public Void visitBody(BodyNode node){
+            addAll(node.getStatements());
+            return null;
+        }
+
+        public Void visitBodyStmt(BodyStmtNode node){
+            add(node.getStatement());
+            return null;
+        }
+
+        public Void visitReturnStmt(ReturnStmtNode node){
+            add(node.getExpression());
+            return null;
+        }
+
+        public Void visitIfStmt(IfStmtNode node){
+            add(node.getCond());
+            add(node.getBody());
+            add(node.getElseIf());
+            add(node.getElse());
+            return null;
+        }
+
+        public Void visitElseIfLst(ElseIfLstNode node){
+            for(int i = 0; i < node.getConds().size(); i++){
+                add(node.getConds().get(i));
+                add(node.getBodies().get(i));
+            }
+            return null;
+        }
+
+        public Void visitElse(ElseNode node){
+            add(node.getBody());
+            return null;
+        }
+
+        public Void visitWhileStmt(WhileStmtNode node){
+            add(node.getCond());
+            add(node.getBody());
+            return null;
+        }
+
+        public Void visitStmt(StmtNode node){
+            add(node.getStatement());
+            return null;
+        }
+
+        public Void visitAsmt(AsmtNode node){
+            add(node.getExpression());
+            return null;
+        }
+
+        public Void visitFuncCall(FuncCallNode node){
+            add(node.getParams());
+            return null;
+        }
+
+        public Void visitParams(ParamsNode node){
+            add(node.getFirst());
+            addAll(node.getRest());
+            return null;
+        }
+
+        public Void visitParamsT(ParamsTNode node){
+            add(node.getParam());
+            return null;
+        }
+
+        public Void visitExpr(ExprNode node){
+            add(node.getExpression());
+            return null;
+        }
+
+        public Void visitIExpr(IExprNode node){
+            addAll(node.getOperands());
+            add(node.getFunc());
+            return null;
+        }
+
+        public Void visitDExpr(DExprNode node){
+            addAll(node.getOperands());
+            add(node.getFunc());
+            return null;
+        }
+
+        public Void visitSExpr(SExprNode node){
+            add(node.getFunc());
+            return null;
+        }
+
+        public Void visitBExpr(BExprNode node){
+            addAll(node.getOperands());
+            add(node.getFunc());
+            return null;
+        }
+
+        public Void visitArenaNode(ArenaNode node){
+            for(ArenaNode child = node.getFirstChild(); child != null; child = child.getNextSibling()){
+                list.add(child);
+            }
+            return null;
+        }
+    }
+}
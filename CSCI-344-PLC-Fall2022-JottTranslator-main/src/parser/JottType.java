@@ -0,0 +1,48 @@
+package src.parser;
+
+/**
+ * The types a Jott value or function can have
+ *
+ * @author Hritik "Ricky" Gupta
+ * @author Griffin Danner-Doran
+ * @author Austin Couch
+ * @author Sam Harrell
+ */
+public enum JottType {
+    INTEGER("Integer"),
+    DOUBLE("Double"),
+    STRING("String"),
+    BOOLEAN("Boolean"),
+    // only a function's return type can be Void
+    VOID("Void");
+
+    private static final JottType[] VALUES = values();
+
+    private final String name;
+
+    JottType(String name){
+        this.name = name;
+    }
+
+    /**
+     * @return the type as it is written in Jott
+     */
+    public String getName(){
+        return name;
+    }
+
+    /**
+     * Finds the type a word names
+     *
+     * @param word the word to check
+     * @return the type, or null if the word does not name one
+     */
+    public static JottType of(String word){
+        for(JottType type : VALUES){
+            if(type.name.equals(word)){
+                return type;
+            }
+        }
+        return null;
+    }
+}
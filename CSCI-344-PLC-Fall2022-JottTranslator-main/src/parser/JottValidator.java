@@ -0,0 +1,552 @@
+package src.parser;
+
+import src.SemanticError;
+import src.tokenizer.Keywords;
+import src.tokenizer.Token;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static src.ErrorHandler.printErrorSemantic;
+import static src.tokenizer.TokenType.NUMBER;
+import static src.tokenizer.TokenType.STRING;
+
+/**
+ * This class is responsible for checking that a parsed Jott program follows the
+ * semantic rules of Jott: every function and variable used is defined, types
+ * agree in expressions, assignments, calls and returns, every function that
+ * returns a value does so, and there is a main that takes no params and
+ * returns an Integer.
+ *
+ * The signature of every function is read in one pass over the function list,
+ * then each function is checked in one pass over its body, so every node is
+ * visited once. Bodies only need the signatures, so they can be checked on
+ * separate threads. Checking carries on past each error so all of them are
+ * found, and they are given in the order they appear in the source. The type of
+ * every expression is kept on its node, see {@link TypedExpr}.
+ *
+ * @author Hritik "Ricky" Gupta
+ * @author Griffin Danner-Doran
+ * @author Austin Couch
+ * @author Sam Harrell
+ */
+public final class JottValidator {
+
+    private JottValidator(){}
+
+    /**
+     * Validates a program, printing each semantic error found to standard error
+     *
+     * @param program the root of the program
+     * @return true if the program is valid Jott
+     */
+    public static boolean validate(ProgramNode program){
+        ArrayList<SemanticError> errors = new ArrayList<>();
+        validate(program, errors);
+        for(SemanticError e: errors){
+            printErrorSemantic(e);
+        }
+        return errors.isEmpty();
+    }
+
+    /**
+     * Validates a program. Functions left as ErrorNodes by a parse with error
+     * recovery are skipped, and a function body left for later by a lazy parse
+     * is parsed first, an IllegalStateException being thrown if it does not parse
+     *
+     * @param program the root of the program
+     * @param errors the list every semantic error found is added to, in source order
+     */
+    public static void validate(ProgramNode program, List<SemanticError> errors){
+        validate(program, errors, null);
+    }
+
+    /**
+     * Validates a program as {@link #validate(ProgramNode, List)} does, checking the
+     * bodies of its functions on separate threads of the common pool once the
+     * signatures of every function are known. The errors found are the same and in
+     * the same order as when validating on one thread.
+     *
+     * @param program the root of the program
+     * @param errors the list every semantic error found is added to, in source order
+     */
+    public static void validateParallel(ProgramNode program, List<SemanticError> errors){
+        validateParallel(program, errors, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Validates a program as {@link #validate(ProgramNode, List)} does, checking the
+     * bodies of its functions on separate threads of the given pool once the
+     * signatures of every function are known. The errors found are the same and in
+     * the same order as when validating on one thread.
+     *
+     * @param program the root of the program
+     * @param errors the list every semantic error found is added to, in source order
+     * @param pool the pool the bodies are checked on
+     */
+    public static void validateParallel(ProgramNode program, List<SemanticError> errors, ForkJoinPool pool){
+        validate(program, errors, pool);
+    }
+
+    /**
+     * Reads every signature on this thread, then checks the bodies, on the pool if there is one
+     */
+    private static void validate(ProgramNode program, List<SemanticError> errors, ForkJoinPool pool){
+        ArrayList<JottTree> functions = program.getFunctionList().getFunctions();
+        Signatures signatures = new Signatures();
+        //the errors found in each function, kept apart so they can be given in source order
+        ArrayList<ArrayList<SemanticError>> found = new ArrayList<>(functions.size());
+        FuncDefNode first = null;
+        boolean hasMain = false;
+        for(JottTree node: functions){
+            ArrayList<SemanticError> functionErrors = new ArrayList<>();
+            found.add(functionErrors);
+            if(node instanceof FuncDefNode function){
+                define(signatures, function, functionErrors);
+                hasMain |= function.getName().equals("main");
+                if(first == null){
+                    first = function;
+                }
+            }
+        }
+        if(pool == null){
+            check(functions, signatures, found, 0, functions.size());
+        }else{
+            pool.invoke(new Bodies(functions, signatures, found, 0, functions.size()));
+        }
+        for(ArrayList<SemanticError> functionErrors: found){
+            errors.addAll(functionErrors);
+        }
+        if(first != null && !hasMain){
+            errors.add(error("missing main function", first.getId()));
+        }
+    }
+
+    /**
+     * Checks the bodies of a run of functions, adding the errors in each to its own list
+     */
+    private static void check(ArrayList<JottTree> functions, Signatures signatures,
+                              ArrayList<ArrayList<SemanticError>> found, int from, int to){
+        for(int i = from; i < to; i++){
+            if(functions.get(i) instanceof FuncDefNode function){
+                new FunctionChecker(signatures, function, found.get(i)).check();
+            }
+        }
+    }
+
+    /**
+     * Checks the bodies of a run of functions, splitting it in two and checking the
+     * halves separately while it holds more than CHECK_SIZE functions. A body only
+     * reads the signatures, which are not changed once read, and writes its own
+     * list of errors, so bodies can be checked in any order
+     */
+    @SuppressWarnings("serial") // only ever run in a pool, never serialized
+    private static class Bodies extends RecursiveAction {
+        private static final int CHECK_SIZE = 16;
+
+        private final ArrayList<JottTree> functions;
+        private final Signatures signatures;
+        private final ArrayList<ArrayList<SemanticError>> found;
+        private final int from;
+        private final int to;
+
+        private Bodies(ArrayList<JottTree> functions, Signatures signatures,
+                       ArrayList<ArrayList<SemanticError>> found, int from, int to){
+            this.functions = functions;
+            this.signatures = signatures;
+            this.found = found;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute(){
+            if(to - from <= CHECK_SIZE){
+                check(functions, signatures, found, from, to);
+                return;
+            }
+            int middle = from + (to - from) / 2;
+            invokeAll(new Bodies(functions, signatures, found, from, middle),
+                    new Bodies(functions, signatures, found, middle, to));
+        }
+    }
+
+    /**
+     * Adds the signature of a function, checking its name and, for main, its params and return type
+     */
+    private static void define(Signatures signatures, FuncDefNode function, List<SemanticError> errors){
+        Token id = function.getId();
+        if(id.getKeyword() != null){
+            errors.add(error("keyword " + id.getToken() + " cannot be used as an id", id));
+        }
+        if(!signatures.define(function)){
+            errors.add(error("function " + id.getToken() + " already defined", id));
+        }
+        if(id.getToken().equals("main")){
+            if(function.getParams() != null){
+                errors.add(error("main must not take params", id));
+            }
+            if(JottType.of(function.getReturnType()) != JottType.INTEGER){
+                errors.add(error("main must return Integer got " + function.getReturnType(), id));
+            }
+        }
+    }
+
+    private static SemanticError error(String message, Token where){
+        return new SemanticError(message, where.getFilename(), where.getLineNum());
+    }
+
+    /**
+     * Checks the body of one function. Each statement visit gives back true if
+     * the statement always returns, which is how a missing return is found
+     */
+    private static final class FunctionChecker implements JottTreeVisitor<Boolean> {
+        private final Signatures signatures;
+        private final FuncDefNode function;
+        private final JottType returnType;
+        private final List<SemanticError> errors;
+        private final Scopes scopes = new Scopes();
+        private final Typer typer = new Typer();
+
+        private FunctionChecker(Signatures signatures, FuncDefNode function, List<SemanticError> errors){
+            this.signatures = signatures;
+            this.function = function;
+            this.returnType = JottType.of(function.getReturnType());
+            this.errors = errors;
+        }
+
+        private void check(){
+            JottTree body = function.parsedBody();
+            //the params are in a scope of their own around the body
+            scopes.open();
+            if(function.getParams() instanceof FuncDefParamsNode first){
+                declare(first.getType(), first.getId());
+                for(JottTree param: first.getRest()){
+                    declare(((FuncDefParamsTNode) param).getType(), ((FuncDefParamsTNode) param).getId());
+                }
+            }
+            boolean returns = body != null && body.accept(this);
+            scopes.close();
+            if(returnType != JottType.VOID && !returns){
+                errors.add(error("function " + function.getName() + " missing return", function.getId()));
+            }
+        }
+
+        private void declare(Token type, Token id){
+            if(id.getKeyword() != null){
+                errors.add(error("keyword " + id.getToken() + " cannot be used as an id", id));
+            }
+            if(!scopes.declare(id.getToken(), JottType.of(type.getToken()))){
+                errors.add(error("variable " + id.getToken() + " already defined", id));
+            }
+        }
+
+        /**
+         * Checks that a value of one type can go where another is expected
+         */
+        private void expect(JottType expected, JottType actual, String what, Token where){
+            //an unknown type has already been reported
+            if(expected != null && actual != null && expected != actual){
+                errors.add(error(what + " expected " + expected.getName() + " got " + actual.getName(), where));
+            }
+        }
+
+        private boolean body(JottTree body){
+            return body != null && body.accept(this);
+        }
+
+        private void condition(JottTree cond){
+            expect(JottType.BOOLEAN, cond.accept(typer), "condition", first(cond));
+        }
+
+        // ErrorNodes, left where a statement could not be parsed
+        public Boolean visitNode(JottTree node){return false;}
+
+        public Boolean visitBody(BodyNode node){
+            boolean returns = false;
+            scopes.open();
+            for(JottTree statement: node.getStatements()){
+                returns |= statement.accept(this);
+            }
+            scopes.close();
+            return returns;
+        }
+
+        public Boolean visitBodyStmt(BodyStmtNode node){
+            return node.getStatement().accept(this);
+        }
+
+        public Boolean visitStmt(StmtNode node){
+            return node.getStatement().accept(this);
+        }
+
+        public Boolean visitVarDec(VarDecNode node){
+            declare(node.getType(), node.getId());
+            return false;
+        }
+
+        public Boolean visitAsmt(AsmtNode node){
+            JottType value = node.getExpression().accept(typer);
+            Token id = node.getId();
+            if(node.getType() != null){
+                expect(JottType.of(node.getType().getToken()), value, "variable " + id.getToken(), id);
+                //declared after the expression, which cannot use the variable it sets
+                declare(node.getType(), id);
+            }else{
+                JottType type = scopes.lookup(id.getToken());
+                if(type == null){
+                    errors.add(error("variable " + id.getToken() + " not defined", id));
+                }
+                expect(type, value, "variable " + id.getToken(), id);
+            }
+            return false;
+        }
+
+        public Boolean visitFuncCall(FuncCallNode node){
+            typer.call(node);
+            return false;
+        }
+
+        public Boolean visitReturnStmt(ReturnStmtNode node){
+            JottType value = node.getExpression().accept(typer);
+            if(returnType == JottType.VOID){
+                errors.add(error("Void function " + function.getName() + " cannot return a value", first(node.getExpression())));
+            }else{
+                expect(returnType, value, "return of " + function.getName(), first(node.getExpression()));
+            }
+            return true;
+        }
+
+        public Boolean visitIfStmt(IfStmtNode node){
+            condition(node.getCond());
+            boolean returns = body(node.getBody());
+            if(node.getElseIf() instanceof ElseIfLstNode elseIfs){
+                for(int i = 0; i < elseIfs.getConds().size(); i++){
+                    condition(elseIfs.getConds().get(i));
+                    returns &= body(elseIfs.getBodies().get(i));
+                }
+            }
+            //an if only always returns if every branch does, so it needs an else
+            if(node.getElse() instanceof ElseNode elseCase){
+                returns &= body(elseCase.getBody());
+            }else{
+                returns = false;
+            }
+            return returns;
+        }
+
+        public Boolean visitWhileStmt(WhileStmtNode node){
+            condition(node.getCond());
+            body(node.getBody());
+            //the loop may not run, so its body returning does not mean the function does
+            return false;
+        }
+
+        /**
+         * Works out the type of an expression, reporting any error inside it.
+         * A visit gives back null if the type cannot be known because of an
+         * error that has been reported. Each expression node is visited once,
+         * and the type worked out for it is kept on the node for later passes
+         */
+        private final class Typer implements JottTreeVisitor<JottType> {
+
+            public JottType visitNode(JottTree node){return null;}
+
+            public JottType visitExpr(ExprNode node){
+                JottType type = node.getExpression().accept(this);
+                node.setType(type);
+                return type;
+            }
+
+            public JottType visitIExpr(IExprNode node){
+                JottType type = operand(node.getOperands(), node.getOps(), node.getFunc(), node.getValue());
+                node.setType(type);
+                return type;
+            }
+
+            public JottType visitDExpr(DExprNode node){
+                JottType type = operand(node.getOperands(), node.getOps(), node.getFunc(), node.getValue());
+                node.setType(type);
+                return type;
+            }
+
+            public JottType visitSExpr(SExprNode node){
+                JottType type = operand(null, null, node.getFunc(), node.getValue());
+                node.setType(type);
+                return type;
+            }
+
+            public JottType visitBExpr(BExprNode node){
+                JottType type;
+                if(node.getOps() != null){
+                    type = compare(node.getOperands(), node.getOps());
+                }else{
+                    type = operand(null, null, node.getFunc(), node.getValue());
+                }
+                node.setType(type);
+                return type;
+            }
+
+            public JottType visitFuncCall(FuncCallNode node){
+                return call(node);
+            }
+
+            private JottType operand(ArrayList<JottTree> operands, ArrayList<Token> ops, JottTree func, Token value){
+                if(ops != null){
+                    return math(operands, ops);
+                }
+                if(func != null){
+                    return func.accept(this);
+                }
+                return value(value);
+            }
+
+            private JottType value(Token value){
+                if(value.getTokenType() == NUMBER){
+                    return value.isDoubleLiteral() ? JottType.DOUBLE : JottType.INTEGER;
+                }
+                if(value.getTokenType() == STRING){
+                    return JottType.STRING;
+                }
+                if(Keywords.isBool(value)){
+                    return JottType.BOOLEAN;
+                }
+                JottType type = scopes.lookup(value.getToken());
+                if(type == null){
+                    errors.add(error("variable " + value.getToken() + " not defined", value));
+                }
+                return type;
+            }
+
+            /**
+             * Operands joined by math ops must all be Integer or all be Double
+             */
+            private JottType math(ArrayList<JottTree> operands, ArrayList<Token> ops){
+                JottType type = number(operands.get(0), ops.get(0));
+                for(int i = 0; i < ops.size(); i++){
+                    JottType next = number(operands.get(i + 1), ops.get(i));
+                    if(type == null){
+                        type = next;
+                    }else{
+                        expect(type, next, ops.get(i).getToken(), ops.get(i));
+                    }
+                }
+                return type;
+            }
+
+            private JottType number(JottTree operand, Token op){
+                JottType type = operand.accept(this);
+                if(type != null && type != JottType.INTEGER && type != JottType.DOUBLE){
+                    errors.add(error(op.getToken() + " expected Integer or Double got " + type.getName(), op));
+                    return null;
+                }
+                return type;
+            }
+
+            /**
+             * Rel ops are read left to right, each comparing two values of the same type
+             * and giving a Boolean
+             */
+            private JottType compare(ArrayList<JottTree> operands, ArrayList<Token> ops){
+                JottType left = operands.get(0).accept(this);
+                for(int i = 0; i < ops.size(); i++){
+                    JottType right = operands.get(i + 1).accept(this);
+                    if(left == JottType.VOID || right == JottType.VOID){
+                        errors.add(error(ops.get(i).getToken() + " cannot compare Void", ops.get(i)));
+                    }else{
+                        expect(left, right, ops.get(i).getToken(), ops.get(i));
+                    }
+                    left = JottType.BOOLEAN;
+                }
+                return JottType.BOOLEAN;
+            }
+
+            /**
+             * Checks a call against the signature of the function called
+             *
+             * @return the return type of the function, or null if it is not defined
+             */
+            private JottType call(FuncCallNode node){
+                Token name = node.getFunction();
+                ArrayList<JottTree> args = new ArrayList<>();
+                if(node.getParams() instanceof ParamsNode params){
+                    args.add(params.getFirst());
+                    for(JottTree param: params.getRest()){
+                        args.add(((ParamsTNode) param).getParam());
+                    }
+                }
+                JottType[] types = new JottType[args.size()];
+                for(int i = 0; i < types.length; i++){
+                    types[i] = args.get(i).accept(this);
+                }
+
+                int id = signatures.find(name);
+                if(id < 0){
+                    errors.add(error("function " + name.getToken() + " not defined", name));
+                    node.setType(null);
+                    return null;
+                }
+                JottType[] expected = signatures.params(id);
+                if(expected.length != types.length){
+                    errors.add(error(name.getToken() + " expected " + expected.length + " params got " + types.length, name));
+                }else{
+                    for(int i = 0; i < types.length; i++){
+                        String what = name.getToken() + " param " + (i + 1);
+                        if(expected[i] == null && types[i] == JottType.VOID){
+                            errors.add(error(what + " cannot be Void", name));
+                        }else{
+                            expect(expected[i], types[i], what, name);
+                        }
+                    }
+                }
+                node.setType(signatures.returnType(id));
+                return signatures.returnType(id);
+            }
+        }
+    }
+
+    /**
+     * @return the first token of an expression, for reporting an error in it
+     */
+    private static Token first(JottTree expr){
+        while(true){
+            if(expr instanceof ExprNode e){
+                expr = e.getExpression();
+            }else if(expr instanceof IExprNode i){
+                if(i.getOps() != null){
+                    expr = i.getOperands().get(0);
+                }else if(i.getFunc() != null){
+                    expr = i.getFunc();
+                }else{
+                    return i.getSign() != null ? i.getSign() : i.getValue();
+                }
+            }else if(expr instanceof DExprNode d){
+                if(d.getOps() != null){
+                    expr = d.getOperands().get(0);
+                }else if(d.getFunc() != null){
+                    expr = d.getFunc();
+                }else{
+                    return d.getSign() != null ? d.getSign() : d.getValue();
+                }
+            }else if(expr instanceof BExprNode b){
+                if(b.getOps() != null){
+                    expr = b.getOperands().get(0);
+                }else if(b.getFunc() != null){
+                    expr = b.getFunc();
+                }else{
+                    return b.getValue();
+                }
+            }else if(expr instanceof SExprNode s){
+                if(s.getFunc() != null){
+                    expr = s.getFunc();
+                }else{
+                    return s.getValue();
+                }
+            }else{
+                return ((FuncCallNode) expr).getFunction();
+            }
+        }
+    }
+}
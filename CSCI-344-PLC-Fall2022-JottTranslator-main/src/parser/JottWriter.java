@@ -0,0 +1,43 @@
+package src.parser;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This class is responsible for writing a Jott parse tree straight to a file.
+ * The tree is emitted through one buffer into the file's channel, so the
+ * output is never held in memory as a whole.
+ *
+ * @author Hritik "Ricky" Gupta
+ * @author Griffin Danner-Doran
+ * @author Austin Couch
+ * @author Sam Harrell
+ */
+public final class JottWriter {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private JottWriter(){}
+
+    /**
+     * Writes a tree out as Jott to a file, replacing anything already in it
+     *
+     * @param tree the tree to write
+     * @param filename the name of the file to write; can be relative or absolute path
+     * @throws IOException if the file cannot be opened or written
+     */
+    public static void writeJott(JottTree tree, String filename) throws IOException {
+        FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        //closing the writer flushes it and closes the channel
+        try(Writer out = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8), BUFFER_SIZE)){
+            tree.emitJott(out);
+        }
+    }
+}
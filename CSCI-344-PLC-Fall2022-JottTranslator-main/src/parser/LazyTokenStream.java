@@ -0,0 +1,56 @@
+package src.parser;
+
+import src.tokenizer.Token;
+import src.tokenizer.ListTokenStream;
+
+import java.util.List;
+
+import static src.tokenizer.TokenType.L_BRACE;
+import static src.tokenizer.TokenType.R_BRACE;
+
+/**
+ * This class is responsible for handing Tokens to a parse that leaves function
+ * bodies for later. When a function definition is handed one of these streams,
+ * it only parses its header, and skips its body by matching braces, keeping the
+ * body's tokens to parse the first time the body is asked for.
+ *
+ * @author Hritik "Ricky" Gupta
+ * @author Griffin Danner-Doran
+ * @author Austin Couch
+ * @author Sam Harrell
+ */
+final class LazyTokenStream extends ListTokenStream {
+
+    /**
+     * Creates a stream positioned before the first token of a list
+     *
+     * @param tokens the tokens to read, which must not change while in use
+     * @param maxDepth the deepest nesting of bodies and function calls allowed
+     */
+    LazyTokenStream(List<Token> tokens, int maxDepth){
+        super(tokens, maxDepth);
+    }
+
+    /**
+     * Skips the rest of a block whose { was just consumed, through the } that closes it
+     *
+     * @return true if the block was skipped, or false if it is never closed,
+     *         in which case nothing is skipped
+     */
+    boolean skipBlock(){
+        int depth = 1;
+        for(int k = 0; k < size(); k++){
+            Token t = peek(k);
+            if(t.getTokenType() == L_BRACE){
+                depth++;
+            }else if(t.getTokenType() == R_BRACE){
+                depth--;
+                if(depth == 0){
+                    reset(position() + k + 1);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -1,11 +1,13 @@
 package src.parser;
 
 import src.ParseSyntaxError;
-import src.tokenizer.Token;
+import src.tokenizer.TokenStream;
 
+import java.io.IOException;
 import java.util.ArrayList;
 
-import static src.ErrorHandler.printErrorParser;
+import static src.ErrorHandler.expectToken;
+import static src.ErrorHandler.syntaxError;
 import static src.tokenizer.TokenType.COMMA;
 import static src.tokenizer.TokenType.R_BRACKET;
 
@@ -18,45 +20,86 @@ import static src.tokenizer.TokenType.R_BRACKET;
  * @author Austin Couch
  * @author Sam Harrell
  */
-public class ParamsNode implements JottTree{
+public class ParamsNode implements JottTree, Flattenable{
 
     private JottTree param1;
-    private JottTree param2 = null;
+    // the params after the first, each with its comma
+    private ArrayList<JottTree> params = new ArrayList<>();
 
     /**
      * Constructor that will try to build a params node from the provided Jott
      * tokens and will immediately throw a ParseSyntax error if it is unable to do so
      *
-     * @param tokens the ArrayList of Jott tokens to parse
+     * @param tokens the stream of Jott tokens to parse
      * @throws ParseSyntaxError if there are any unexpected tokens preventing the proper
      *                              formation of a representative params
      */
-    public ParamsNode(ArrayList<Token> tokens) throws ParseSyntaxError {
+    public ParamsNode(TokenStream tokens) throws ParseSyntaxError {
         //make sure that the first param is normal, cannot start with comma. Otherwise, add an expr
-        if(tokens.get(0).getTokenType() == COMMA){
-            printErrorParser("Expected expr got ,", tokens.get(0).getFilename(), tokens.get(0).getLineNum());
+        if(tokens.peek().getTokenType() == COMMA){
+            syntaxError("Expected expr got ,", tokens.peek().getFilename(), tokens.peek().getLineNum());
         }else{
             param1 = new ExprNode(tokens);
         }
-        //add a second param if we see a comma
-        if(!tokens.isEmpty() && tokens.get(0).getTokenType() == COMMA){
-            param2 = new ParamsTNode(tokens);
+        //add the rest of the params while we see commas, in a loop so a long list does not nest
+        if(!tokens.isEmpty() && tokens.peek().getTokenType() == COMMA){
+            while(!tokens.isEmpty() && tokens.peek().getTokenType() == COMMA){
+                params.add(new ParamsTNode(tokens));
+            }
         }else{
-            printErrorParser(tokens, R_BRACKET, tokens.get(0), "func call missing ]", "expected , or ] got ");
+            expectToken(tokens, R_BRACKET, tokens.peek(), "func call missing ]", "expected , or ] got ");
         }
     }
 
     /**
-     * Responsible for parsing a params
+     * @return the first param
+     */
+    public JottTree getFirst(){
+        return param1;
+    }
+
+    /**
+     * @return the params after the first, in order
+     */
+    public ArrayList<JottTree> getRest(){
+        return params;
+    }
+
+    /**
+     * Responsible for writing out a params
      *
-     * @return this node's respective proper Jott representation as a string
+     * @param out where this node's respective proper Jott representation is written
+     * @throws IOException if out cannot be written to
      */
-    public String convertToJott(){
-        String readout = param1.convertToJott();
-        if(param2 != null){
-            readout += param2.convertToJott();
+    public void emitJott(Appendable out) throws IOException {
+        param1.emitJott(out);
+        for(JottTree param: params){
+            param.emitJott(out);
         }
-        return readout;
+    }
+
+    /**
+     * Adds this node to an arena, with its tokens and children in source order
+     *
+     * @param arena the builder of the arena being filled
+     */
+    public void flatten(AstArena.Builder arena){
+        arena.open(AstKind.PARAMS);
+        arena.child(param1);
+        for(JottTree param: params){
+            arena.child(param);
+        }
+        arena.close();
+    }
+
+    /**
+     * Passes this node to the visitor method for its type
+     *
+     * @param visitor the visitor to pass this node to
+     * @return what the visitor gives back
+     */
+    public <R> R accept(JottTreeVisitor<R> visitor){
+        return visitor.visitParams(this);
     }
 
     // functions to be in future phases
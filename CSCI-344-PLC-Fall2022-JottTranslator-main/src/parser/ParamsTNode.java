@@ -2,12 +2,13 @@ package src.parser;
 
 import src.ParseSyntaxError;
 import src.tokenizer.Token;
+import src.tokenizer.TokenStream;
 
-import java.util.ArrayList;
-
-import static src.ErrorHandler.printErrorParser;
+import static src.ErrorHandler.expectToken;
 import static src.tokenizer.TokenType.*;
 
+import java.io.IOException;
+
 /**
  * This class is responsible for representing a parsed Jott paramsT node
  * when a JottTree is built
@@ -17,47 +18,70 @@ import static src.tokenizer.TokenType.*;
  * @author Austin Couch
  * @author Sam Harrell
  */
-public class ParamsTNode implements JottTree{
+public class ParamsTNode implements JottTree, Flattenable{
 
     private JottTree param1;
-    private JottTree param2 = null;
 
     /**
      * Constructor that will try to build a paramsT node from the provided Jott
      * tokens and will immediately throw a ParseSyntax error if it is unable to do so
      *
-     * @param tokens the ArrayList of Jott tokens to parse
+     * @param tokens the stream of Jott tokens to parse
      * @throws ParseSyntaxError if there are any unexpected tokens preventing the proper
      *                              formation of a representative paramsT
      */
-    public ParamsTNode(ArrayList<Token> tokens) throws ParseSyntaxError {
+    public ParamsTNode(TokenStream tokens) throws ParseSyntaxError {
         //if we are in this node, there must be a comma at the start
-        Token comma = tokens.remove(0);
+        Token comma = tokens.next();
         //if we see anything after a comma, we let expr figure out what expr it is
        if(!tokens.isEmpty()){
             param1 = new ExprNode(tokens);
        }else{
-           printErrorParser(tokens, null, comma, "func params missing expr", "expected expr start got ");
+           expectToken(tokens, null, comma, "func params missing expr", "expected expr start got ");
        }
-        //add a second param if we see a comma
-        if(!tokens.isEmpty() && tokens.get(0).getTokenType() == COMMA){
-            param2 = new ParamsTNode(tokens);
-        }else{
-            printErrorParser(tokens, R_BRACKET, comma, "func call missing ]", "expected , or ] got ");
+        //another param may follow, which the params node reads, otherwise the call must end
+        if(tokens.isEmpty() || tokens.peek().getTokenType() != COMMA){
+            expectToken(tokens, R_BRACKET, comma, "func call missing ]", "expected , or ] got ");
         }
     }
 
     /**
-     * Responsible for parsing a paramsT
+     * @return the param
+     */
+    public JottTree getParam(){
+        return param1;
+    }
+
+    /**
+     * Responsible for writing out a paramsT
      *
-     * @return this node's respective proper Jott representation as a string
+     * @param out where this node's respective proper Jott representation is written
+     * @throws IOException if out cannot be written to
      */
-    public String convertToJott(){
-        String readout = "," + param1.convertToJott();
-        if(param2 != null){
-            readout += param2.convertToJott();
-        }
-        return readout;
+    public void emitJott(Appendable out) throws IOException {
+        out.append(',');
+        param1.emitJott(out);
+    }
+
+    /**
+     * Adds this node to an arena, with its tokens and children in source order
+     *
+     * @param arena the builder of the arena being filled
+     */
+    public void flatten(AstArena.Builder arena){
+        arena.open(AstKind.PARAMS_T);
+        arena.child(param1);
+        arena.close();
+    }
+
+    /**
+     * Passes this node to the visitor method for its type
+     *
+     * @param visitor the visitor to pass this node to
+     * @return what the visitor gives back
+     */
+    public <R> R accept(JottTreeVisitor<R> visitor){
+        return visitor.visitParamsT(this);
     }
 
     // functions to be in future phases
@@ -0,0 +1,213 @@
+package src.parser;
+
+import src.tokenizer.Keyword;
+import src.tokenizer.Token;
+import src.tokenizer.TokenStream;
+import src.tokenizer.TokenType;
+
+import java.util.HashMap;
+import java.util.regex.Pattern;
+
+/**
+ * This class is responsible for choosing which production the parser follows
+ * from the next token. The first sets of the grammar are read from
+ * {@link Utils#getFirstSetTokenKey()} and compiled once into a table indexed by
+ * nonterminal and terminal, where a terminal is a token type, or the keyword
+ * an ID_KEYWORD token spells. A terminal is in a first set if its text, or the
+ * text of any id for a plain ID_KEYWORD, matches the set's regex.
+ *
+ * Building the table checks that no two productions of a nonterminal share a
+ * first token, so the grammar is LL(1) at every place the parser looks a
+ * token up. stmt is left factored to make that so: a type and an id are read
+ * before choosing between var_dec and asmt, and an id is read before choosing
+ * between asmt and func_call.
+ *
+ * @author Hritik "Ricky" Gupta
+ * @author Griffin Danner-Doran
+ * @author Austin Couch
+ * @author Sam Harrell
+ */
+final class PredictTable {
+
+    private static final int KEYWORD_BASE = TokenType.values().length;
+    private static final int TERMINALS = KEYWORD_BASE + Keyword.values().length;
+    // the first set of each grammar symbol, keyed by the symbol's name in Utils
+    private static final HashMap<String, Pattern> FIRST_SETS = Utils.getFirstSetTokenKey();
+
+    /**
+     * The places where the parser chooses between productions
+     */
+    enum Nonterminal {
+        FUNC_LIST(Utils.FUNC_LIST),
+        BODY(Utils.BODY),
+        BODY_STMT(Utils.BODY_STMT),
+        STMT(Utils.STMT),
+        // what follows the type and id of a stmt
+        TYPED_STMT(Utils.STMT),
+        // what follows the id of a stmt
+        ID_STMT(Utils.STMT);
+
+        private final String name;
+
+        Nonterminal(String name){
+            this.name = name;
+        }
+    }
+
+    /**
+     * The productions the parser can choose, each with the nonterminal it belongs
+     * to and the set of terminals it can start with
+     */
+    enum Production {
+        // a function can be named by any word that is not reserved, keywords like while included
+        FUNC_DEF(Nonterminal.FUNC_LIST, first(Utils.FUNC_DEF) | unreserved()),
+
+        RETURN_STMT(Nonterminal.BODY, first(Utils.RETURN_STMT)),
+        BODY_STMT(Nonterminal.BODY, first(Utils.BODY_STMT)),
+
+        IF_STMT(Nonterminal.BODY_STMT, first(Utils.IF_STMT)),
+        WHILE_LOOP(Nonterminal.BODY_STMT, first(Utils.WHILE_LOOP)),
+        STMT(Nonterminal.BODY_STMT, first(Utils.STMT)),
+
+        TYPED_STMT(Nonterminal.STMT, first(Utils.TYPE)),
+        ID_STMT(Nonterminal.STMT, first(Utils.ID)),
+
+        // the rest follow the first token of a stmt, so each starts with a single terminal
+        VAR_DEC(Nonterminal.TYPED_STMT, first(Utils.END_STMT)),
+        TYPED_ASMT(Nonterminal.TYPED_STMT, of(TokenType.ASSIGN)),
+
+        ASMT(Nonterminal.ID_STMT, of(TokenType.ASSIGN)),
+        FUNC_CALL(Nonterminal.ID_STMT, of(TokenType.L_BRACKET));
+
+        private final Nonterminal nonterminal;
+        // one bit per terminal
+        private final long first;
+
+        Production(Nonterminal nonterminal, long first){
+            this.nonterminal = nonterminal;
+            this.first = first;
+        }
+    }
+
+    /**
+     * Holds the table, so it is only built once every production has its first set,
+     * whichever of this class and Production is loaded first
+     */
+    private static final class Table {
+        private static final Production[][] ROWS = new Production[Nonterminal.values().length][TERMINALS];
+
+        static {
+            for(Production p : Production.values()){
+                Production[] row = ROWS[p.nonterminal.ordinal()];
+                for(int terminal = 0; terminal < TERMINALS; terminal++){
+                    if((p.first & 1L << terminal) == 0){
+                        continue;
+                    }
+                    if(row[terminal] != null){
+                        throw new IllegalStateException("LL(1) conflict in " + p.nonterminal.name + " between "
+                                + row[terminal] + " and " + p + " on " + describe(terminal));
+                    }
+                    row[terminal] = p;
+                }
+            }
+        }
+    }
+
+    private PredictTable(){}
+
+    /**
+     * Chooses the production to follow from the next token
+     *
+     * @param nonterminal the nonterminal being parsed
+     * @param t the next token, or null at the end of the tokens
+     * @return the production that starts with the token, or null if none does
+     */
+    static Production predict(Nonterminal nonterminal, Token t){
+        if(t == null){
+            return null;
+        }
+        return Table.ROWS[nonterminal.ordinal()][terminal(t)];
+    }
+
+    /**
+     * Chooses the production to follow from a token further ahead
+     *
+     * @param nonterminal the nonterminal being parsed
+     * @param tokens the stream of Jott tokens being parsed
+     * @param k how many tokens past the next one to look, 0 being the next token
+     * @return the production that starts with the token, or null if none does
+     *         or there are not that many tokens left
+     */
+    static Production predict(Nonterminal nonterminal, TokenStream tokens, int k){
+        return predict(nonterminal, tokens.canPeek(k) ? tokens.peek(k) : null);
+    }
+
+    private static int terminal(Token t){
+        Keyword keyword = t.getKeyword();
+        return keyword != null ? KEYWORD_BASE + keyword.ordinal() : t.getTokenType().ordinal();
+    }
+
+    private static String describe(int terminal){
+        if(terminal >= KEYWORD_BASE){
+            return Keyword.values()[terminal - KEYWORD_BASE].getWord();
+        }
+        return TokenType.values()[terminal].toString();
+    }
+
+    /**
+     * @param symbol the name of a grammar symbol in Utils
+     * @return the set of terminals the symbol can start with
+     */
+    private static long first(String symbol){
+        Pattern first = FIRST_SETS.get(symbol);
+        long set = 0;
+        for(int terminal = 0; terminal < TERMINALS; terminal++){
+            if(first.matcher(text(terminal)).matches()){
+                set |= 1L << terminal;
+            }
+        }
+        return set;
+    }
+
+    /**
+     * @return text a token of the terminal can have, as the first sets are written against
+     */
+    private static String text(int terminal){
+        if(terminal >= KEYWORD_BASE){
+            return Keyword.values()[terminal - KEYWORD_BASE].getWord();
+        }
+        return switch(TokenType.values()[terminal]){
+            case COMMA -> ",";
+            case R_BRACKET -> "]";
+            case L_BRACKET -> "[";
+            case R_BRACE -> "}";
+            case L_BRACE -> "{";
+            case ASSIGN -> "=";
+            case REL_OP -> "==";
+            case MATH_OP -> "+";
+            case SEMICOLON -> ";";
+            case NUMBER -> "1";
+            // the first sets stand for an id by its first letter
+            case ID_KEYWORD -> "x";
+            case COLON -> ":";
+            case STRING -> "\"\"";
+        };
+    }
+
+    private static long of(TokenType type){
+        return 1L << type.ordinal();
+    }
+
+    /**
+     * @return the set of keywords that are not reserved, and so can be used as a name in phase 2
+     */
+    private static long unreserved(){
+        long set = 0;
+        for(Keyword k : Keyword.values()){
+            if(!k.isReserved()){
+                set |= 1L << (KEYWORD_BASE + k.ordinal());
+            }
+        }
+        return set;
+    }
+}
@@ -1,9 +1,9 @@
 package src.parser;
 
 import src.ParseSyntaxError;
-import src.tokenizer.Token;
+import src.tokenizer.TokenStream;
 
-import java.util.ArrayList;
+import java.io.IOException;
 
 /**
  * This class is responsible for representing a parsed Jott program node
@@ -14,31 +14,79 @@ import java.util.ArrayList;
  * @author Austin Couch
  * @author Sam Harrell
  */
-public class ProgramNode implements JottTree{
-    private JottTree node;
+public class ProgramNode implements JottTree, Flattenable{
+    private FuncLstNode node;
 
     /**
      * Constructor that will try to build a program node from the provided Jott
      * tokens and will immediately throw a ParseSyntax error if it is unable to do so
      *
-     * @param tokens the ArrayList of Jott tokens to parse
+     * @param tokens the stream of Jott tokens to parse
      * @throws ParseSyntaxError if there are any unexpected tokens preventing the proper
      *                              formation of a representative program
      */
-    public ProgramNode(ArrayList<Token> tokens) throws ParseSyntaxError {
+    public ProgramNode(TokenStream tokens) throws ParseSyntaxError {
         node = new FuncLstNode(tokens);
     }
 
     /**
-     * Responsible for parsing a while statement
+     * Constructor for a program whose function list was already parsed
      *
-     * @return this node's respective proper Jott representation as a string
+     * @param functions the function list making up the program
      */
-    public String convertToJott(){return node.convertToJott();}
+    ProgramNode(FuncLstNode functions){
+        node = functions;
+    }
+
+    /**
+     * @return the function list making up the program
+     */
+    public FuncLstNode getFunctionList(){
+        return node;
+    }
+
+    /**
+     * Responsible for writing out a program
+     *
+     * @param out where this node's respective proper Jott representation is written
+     * @throws IOException if out cannot be written to
+     */
+    public void emitJott(Appendable out) throws IOException {
+        node.emitJott(out);
+    }
+
+    /**
+     * Adds this node to an arena, with its tokens and children in source order
+     *
+     * @param arena the builder of the arena being filled
+     */
+    public void flatten(AstArena.Builder arena){
+        arena.open(AstKind.PROGRAM);
+        arena.child(node);
+        arena.close();
+    }
+
+    /**
+     * Passes this node to the visitor method for its type
+     *
+     * @param visitor the visitor to pass this node to
+     * @return what the visitor gives back
+     */
+    public <R> R accept(JottTreeVisitor<R> visitor){
+        return visitor.visitProgram(this);
+    }
+
+    /**
+     * Responsible for validating a program, with each semantic error found printed to standard error
+     *
+     * @return true if the program is valid Jott
+     */
+    public boolean validateTree(){
+        return JottValidator.validate(this);
+    }
 
     // functions to be in future phases
     public String convertToJava(){return null;}
     public String convertToC(){return null;}
     public String convertToPython(){return null;}
-    public boolean validateTree(){return false;}
 }
@@ -0,0 +1,148 @@
+package src.parser;
+
+import src.ParseSyntaxError;
+import src.tokenizer.Keywords;
+import src.tokenizer.Token;
+import src.tokenizer.ListTokenStream;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static src.parser.PredictTable.Nonterminal.FUNC_LIST;
+import static src.parser.PredictTable.Production.FUNC_DEF;
+import static src.tokenizer.Keyword.ELSE;
+import static src.tokenizer.Keyword.ELSEIF;
+import static src.tokenizer.TokenType.*;
+
+/**
+ * This class is responsible for handing Tokens to a parse that carries on past
+ * syntax errors. When a statement or function fails to parse, the error is kept
+ * and the tokens up to the next place the parse can pick up again are skipped
+ * (panic mode), so one parse finds every error in a source rather than the first.
+ *
+ * A body picks up again after the ; that ends a statement, or at the } that ends
+ * the body, and a function list picks up at the start of the next function.
+ * Nodes only recover when they are handed one of these streams, so a plain
+ * TokenStream still stops at the first error.
+ *
+ * @author Hritik "Ricky" Gupta
+ * @author Griffin Danner-Doran
+ * @author Austin Couch
+ * @author Sam Harrell
+ */
+final class RecoveringTokenStream extends ListTokenStream {
+
+    private final List<Token> tokens;
+    private final ArrayList<ParseSyntaxError> errors = new ArrayList<>();
+    // the position the last function header scan started at, and what it found
+    private int scannedAt = -1;
+    private boolean scannedHeader = false;
+
+    /**
+     * Creates a stream positioned before the first token of a list
+     *
+     * @param tokens the tokens to read, which must not change while in use
+     * @param maxDepth the deepest nesting of bodies and function calls allowed
+     */
+    RecoveringTokenStream(List<Token> tokens, int maxDepth){
+        super(tokens, maxDepth);
+        this.tokens = tokens;
+    }
+
+    /**
+     * @return every syntax error found so far, in the order they were found
+     */
+    List<ParseSyntaxError> getErrors(){
+        return errors;
+    }
+
+    /**
+     * Keeps an error found in a body statement and skips past the ; that ends the
+     * statement, or up to the } that ends the body. A brace block opened in the
+     * statement, such as the body of a broken if, is skipped as a whole.
+     *
+     * @param error the error that stopped the statement
+     * @param mark the position the statement started at
+     * @return a node standing in for the skipped tokens
+     */
+    ErrorNode recoverStatement(ParseSyntaxError error, int mark){
+        errors.add(error);
+        int depth = 0;
+        while(!isEmpty() && !(depth == 0 && atFunctionStart())){
+            Token t = peek();
+            if(t.getTokenType() == L_BRACE){
+                depth++;
+            }else if(t.getTokenType() == R_BRACE){
+                if(depth == 0){
+                    break;
+                }
+                depth--;
+                if(depth == 0){
+                    next();
+                    //the elseifs and else of a broken if belong to it as well
+                    if(isEmpty() || !(Keywords.is(peek(), ELSEIF) || Keywords.is(peek(), ELSE))){
+                        break;
+                    }
+                    continue;
+                }
+            }else if(depth == 0 && t.getTokenType() == SEMICOLON){
+                next();
+                break;
+            }
+            next();
+        }
+        return new ErrorNode(error, tokens.subList(mark, position()));
+    }
+
+    /**
+     * Keeps an error found in a function and skips to the start of the next function
+     *
+     * @param error the error that stopped the function
+     * @param mark the position the function started at
+     * @return a node standing in for the skipped tokens
+     */
+    ErrorNode recoverFunction(ParseSyntaxError error, int mark){
+        errors.add(error);
+        while(!isEmpty() && !atFunctionStart()){
+            next();
+        }
+        return new ErrorNode(error, tokens.subList(mark, position()));
+    }
+
+    /**
+     * Checks for the header of a function definition, an id then [ params ] :,
+     * which cannot begin any statement. Recovery checks before every token it
+     * skips, so only a name followed by [ is scanned any further. A scan stops at
+     * the first token that cannot be in a param list, [ included, so scans from
+     * different names never cover the same tokens and skipping stays linear. The
+     * body loop and recovery check the same position in turn, so the last scan is kept.
+     *
+     * @return true if the next tokens start a function definition
+     */
+    boolean atFunctionStart(){
+        if(!canPeek(1) || peek(1).getTokenType() != L_BRACKET || PredictTable.predict(FUNC_LIST, peek()) != FUNC_DEF){
+            return false;
+        }
+        if(scannedAt != position()){
+            scannedAt = position();
+            scannedHeader = scanHeader();
+        }
+        return scannedHeader;
+    }
+
+    /**
+     * @return true if the [ after the next token starts a param list closed by ] then :
+     */
+    private boolean scanHeader(){
+        for(int k = 2; canPeek(k); k++){
+            Token t = peek(k);
+            if(t.getTokenType() == R_BRACKET){
+                return canPeek(k + 1) && peek(k + 1).getTokenType() == COLON;
+            }
+            if(t.getTokenType() != ID_KEYWORD && t.getTokenType() != COLON && t.getTokenType() != COMMA){
+                return false;
+            }
+        }
+        return false;
+    }
+}
@@ -2,12 +2,14 @@ package src.parser;
 
 import src.ParseSyntaxError;
 import src.tokenizer.Token;
+import src.tokenizer.TokenStream;
 
-import java.util.ArrayList;
-
-import static src.ErrorHandler.printErrorParser;
+import static src.ErrorHandler.expectToken;
+import static src.ErrorHandler.syntaxError;
 import static src.tokenizer.TokenType.SEMICOLON;
 
+import java.io.IOException;
+
 /**
  * This class is responsible for representing a parsed Jott return statement node
  * when a JottTree is built
@@ -17,7 +19,7 @@ import static src.tokenizer.TokenType.SEMICOLON;
  * @author Austin Couch
  * @author Sam Harrell
  */
-public class ReturnStmtNode implements JottTree{
+public class ReturnStmtNode implements JottTree, Flattenable{
 
     private JottTree expression;
 
@@ -25,31 +27,62 @@ public class ReturnStmtNode implements JottTree{
      * Constructor that will try to build a return statement node from the provided Jott
      * tokens and will immediately throw a ParseSyntax error if it is unable to do so
      *
-     * @param tokens the ArrayList of Jott tokens to parse
+     * @param tokens the stream of Jott tokens to parse
      * @throws ParseSyntaxError if there are any unexpected tokens preventing the proper
      *                              formation of a representative return statement
      */
-    public ReturnStmtNode(ArrayList<Token> tokens) throws ParseSyntaxError {
+    public ReturnStmtNode(TokenStream tokens) throws ParseSyntaxError {
         //we know that we saw the token return since we are in this node
-        Token ret = tokens.remove(0);
+        Token ret = tokens.next();
         //check to make sure we actually have an expression to return
-        if(!tokens.isEmpty() && tokens.get(0).getTokenType() != SEMICOLON){
+        if(!tokens.isEmpty() && tokens.peek().getTokenType() != SEMICOLON){
             expression = new ExprNode(tokens);
         }else{
-            printErrorParser("Expected return expr got ;", ret.getFilename(), ret.getLineNum());
+            syntaxError("Expected return expr got ;", ret.getFilename(), ret.getLineNum());
         }
         //remove ending semicolon after expression is grabbed
-        printErrorParser(tokens, SEMICOLON, ret, "return expr missing ;", "expected ; got ");
-        tokens.remove(0);
+        expectToken(tokens, SEMICOLON, ret, "return expr missing ;", "expected ; got ");
+        tokens.next();
+    }
+
+    /**
+     * @return the expression returned
+     */
+    public JottTree getExpression(){
+        return expression;
+    }
+
+    /**
+     * Responsible for writing out a return statement
+     *
+     * @param out where this node's respective proper Jott representation is written
+     * @throws IOException if out cannot be written to
+     */
+    public void emitJott(Appendable out) throws IOException {
+        out.append("return ");
+        expression.emitJott(out);
+        out.append(';');
+    }
+
+    /**
+     * Adds this node to an arena, with its tokens and children in source order
+     *
+     * @param arena the builder of the arena being filled
+     */
+    public void flatten(AstArena.Builder arena){
+        arena.open(AstKind.RETURN_STMT);
+        arena.child(expression);
+        arena.close();
     }
 
     /**
-     * Responsible for parsing a return statement
+     * Passes this node to the visitor method for its type
      *
-     * @return this node's respective proper Jott representation as a string
+     * @param visitor the visitor to pass this node to
+     * @return what the visitor gives back
      */
-    public String convertToJott(){
-        return "return " + expression.convertToJott() + ";";
+    public <R> R accept(JottTreeVisitor<R> visitor){
+        return visitor.visitReturnStmt(this);
     }
 
     // functions to be in future phases
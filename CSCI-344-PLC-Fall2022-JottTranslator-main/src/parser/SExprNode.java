@@ -1,13 +1,8 @@
 package src.parser;
 
-import src.ParseSyntaxError;
 import src.tokenizer.Token;
 
-import java.util.ArrayList;
-
-import static src.ErrorHandler.generateErrorString;
-import static src.ErrorHandler.printErrorParser;
-import static src.tokenizer.TokenType.*;
+import java.io.IOException;
 
 /**
  * This class is responsible for representing a parsed Jott string expression node
@@ -18,63 +13,80 @@ import static src.tokenizer.TokenType.*;
  * @author Austin Couch
  * @author Sam Harrell
  */
-public class SExprNode implements JottTree{
+public class SExprNode extends TypedExpr implements Flattenable{
 
     private Token str = null;
     private JottTree func = null;
 
     /**
-     * Constructor that will try to build a string expression node from the provided Jott
-     * tokens and will immediately throw a ParseSyntax error if it is unable to do so
+     * Creates a string expression node for a single string or id, built by the ExprParser
      *
-     * @param tokens the ArrayList of Jott tokens to parse
-     * @throws ParseSyntaxError if there are any unexpected tokens preventing the proper
-     *                              formation of a representative string expression
+     * @param str the string or id
      */
-    public SExprNode(ArrayList<Token> tokens) throws ParseSyntaxError {
-        //s expr can only be 3 things
-        //just a string
-        if(!tokens.isEmpty() && tokens.get(0).getTokenType() == STRING){
-            str = tokens.remove(0);
-        }//an id or an id[
-        else if(!tokens.isEmpty() && tokens.get(0).getTokenType() == ID_KEYWORD && !tokens.get(0).getToken().matches("Void|Double|Integer|Boolean|String|True|False")){
-            //if it is a function call, we must make a FuncCallNode
-            if(tokens.size() >= 2 && tokens.get(1).getTokenType() == R_BRACKET){
-                func = new FuncCallNode(tokens);
-            }//if not, just a single id
-            else{
-                str = tokens.remove(0);
-            }
-        }else{
-            printErrorParser("Expected s expr start got " + generateErrorString(tokens.get(0)), tokens.get(0).getFilename(), tokens.get(0).getLineNum());
-        }
-        if(tokens.get(0).getTokenType() == SEMICOLON || tokens.get(0).getTokenType() == R_BRACKET
-                || tokens.get(0).getTokenType() == COMMA || tokens.get(0).getTokenType() == REL_OP) {
-            return;
-        } else {
-            String pre = "";
-            if(str != null){
-                pre = "string";
-            }else if(func != null){
-                pre = "func call";
-            }
-            printErrorParser("Unexpected token - " + generateErrorString(tokens.get(0)) + " after " + pre, tokens.get(0).getFilename(), tokens.get(0).getLineNum());
-        }
+    SExprNode(Token str){
+        this.str = str;
     }
 
     /**
-     * Responsible for parsing a string expression
+     * Creates a string expression node for a single function call, built by the ExprParser
      *
-     * @return this node's respective proper Jott representation as a string
+     * @param func the function call
+     */
+    SExprNode(JottTree func){
+        this.func = func;
+    }
+
+    /**
+     * @return the string or id, or null if this is a function call
      */
-    public String convertToJott(){
+    public Token getValue(){
+        return str;
+    }
+
+    /**
+     * @return the function call, or null if this is not one
+     */
+    public JottTree getFunc(){
+        return func;
+    }
+
+    /**
+     * Responsible for writing out a string expression
+     *
+     * @param out where this node's respective proper Jott representation is written
+     * @throws IOException if out cannot be written to
+     */
+    public void emitJott(Appendable out) throws IOException {
         if(str != null){
-            return str.getToken();
+            out.append(str.getToken());
         }else if(func != null){
-            return func.convertToJott();
+            func.emitJott(out);
+        }
+    }
+
+    /**
+     * Adds this node to an arena, with its tokens and children in source order
+     *
+     * @param arena the builder of the arena being filled
+     */
+    public void flatten(AstArena.Builder arena){
+        arena.open(AstKind.S_EXPR);
+        if(str != null){
+            arena.token(str);
         }else{
-            return null;
+            arena.child(func);
         }
+        arena.close();
+    }
+
+    /**
+     * Passes this node to the visitor method for its type
+     *
+     * @param visitor the visitor to pass this node to
+     * @return what the visitor gives back
+     */
+    public <R> R accept(JottTreeVisitor<R> visitor){
+        return visitor.visitSExpr(this);
     }
 
     // functions to be in future phases
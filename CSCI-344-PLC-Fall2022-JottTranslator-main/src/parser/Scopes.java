@@ -0,0 +1,84 @@
+package src.parser;
+
+import java.util.Arrays;
+
+/**
+ * This class is responsible for the variables in scope at each point of a
+ * function while it is validated. Each body opens a scope, and the variables
+ * declared in it go out of scope when it closes.
+ *
+ * Names are interned, so the type of each variable is kept in an array indexed
+ * by the id of its name. A variable cannot be declared again while it is in
+ * scope, so a name is never hidden, and closing a scope only has to clear the
+ * names declared since it was opened. Every declaration, lookup and close is
+ * O(1) per variable.
+ *
+ * @author Hritik "Ricky" Gupta
+ * @author Griffin Danner-Doran
+ * @author Austin Couch
+ * @author Sam Harrell
+ */
+final class Scopes {
+
+    private final Interner names = new Interner();
+    // the type of each variable in scope, by the id of its name
+    private JottType[] types = new JottType[16];
+    // the ids of the variables in scope, in the order they were declared
+    private int[] declared = new int[16];
+    private int declaredCount = 0;
+    // how many variables were in scope when each open scope was opened
+    private int[] opened = new int[8];
+    private int depth = 0;
+
+    /**
+     * Opens a scope inside the current one
+     */
+    void open(){
+        if(depth == opened.length){
+            opened = Arrays.copyOf(opened, depth * 2);
+        }
+        opened[depth++] = declaredCount;
+    }
+
+    /**
+     * Closes the current scope, taking every variable declared in it out of scope
+     */
+    void close(){
+        int start = opened[--depth];
+        while(declaredCount > start){
+            types[declared[--declaredCount]] = null;
+        }
+    }
+
+    /**
+     * Declares a variable in the current scope
+     *
+     * @param name the name of the variable
+     * @param type the type of the variable
+     * @return false if a variable of that name is already in scope, in which case nothing changes
+     */
+    boolean declare(String name, JottType type){
+        int id = names.intern(name);
+        if(id == types.length){
+            types = Arrays.copyOf(types, id * 2);
+        }
+        if(types[id] != null){
+            return false;
+        }
+        types[id] = type;
+        if(declaredCount == declared.length){
+            declared = Arrays.copyOf(declared, declaredCount * 2);
+        }
+        declared[declaredCount++] = id;
+        return true;
+    }
+
+    /**
+     * @param name the name of a variable
+     * @return the type of the variable, or null if no variable of that name is in scope
+     */
+    JottType lookup(String name){
+        int id = names.find(name);
+        return id < 0 ? null : types[id];
+    }
+}
@@ -0,0 +1,91 @@
+package src.parser;
+
+import src.tokenizer.Token;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * This class is responsible for the return type and param types of every
+ * function a program can call, the built in print, concat and length included.
+ * It is filled in one pass over the function list before any body is
+ * validated, so a function can be called from above its definition.
+ *
+ * Function names are interned, and each signature is kept in arrays indexed by
+ * the id of its name. Once filled the table is only read.
+ *
+ * @author Hritik "Ricky" Gupta
+ * @author Griffin Danner-Doran
+ * @author Austin Couch
+ * @author Sam Harrell
+ */
+final class Signatures {
+
+    private static final JottType[] NO_PARAMS = new JottType[0];
+
+    private final Interner names = new Interner();
+    private JottType[] returnTypes = new JottType[16];
+    // the type of each param, where null stands for any type but Void
+    private JottType[][] params = new JottType[16][];
+
+    Signatures(){
+        add("print", JottType.VOID, new JottType[]{null});
+        add("concat", JottType.STRING, new JottType[]{JottType.STRING, JottType.STRING});
+        add("length", JottType.INTEGER, new JottType[]{JottType.STRING});
+    }
+
+    /**
+     * Adds the signature of a function definition
+     *
+     * @param function the function
+     * @return false if a function of that name is already defined, in which case nothing changes
+     */
+    boolean define(FuncDefNode function){
+        if(names.find(function.getName()) >= 0){
+            return false;
+        }
+        ArrayList<JottType> types = new ArrayList<>();
+        if(function.getParams() instanceof FuncDefParamsNode first){
+            types.add(JottType.of(first.getType().getToken()));
+            for(JottTree param: first.getRest()){
+                types.add(JottType.of(((FuncDefParamsTNode) param).getType().getToken()));
+            }
+        }
+        add(function.getName(), JottType.of(function.getReturnType()), types.toArray(NO_PARAMS));
+        return true;
+    }
+
+    /**
+     * @param name the token naming a function
+     * @return the id of the function, or -1 if it is not defined
+     */
+    int find(Token name){
+        return names.find(name.getToken());
+    }
+
+    /**
+     * @param id the id of a function
+     * @return the return type of the function
+     */
+    JottType returnType(int id){
+        return returnTypes[id];
+    }
+
+    /**
+     * @param id the id of a function
+     * @return the type of each param of the function, where null stands for any type but Void
+     */
+    JottType[] params(int id){
+        return params[id];
+    }
+
+    private void add(String name, JottType returnType, JottType[] paramTypes){
+        int id = names.intern(name);
+        if(id == returnTypes.length){
+            returnTypes = Arrays.copyOf(returnTypes, id * 2);
+            params = Arrays.copyOf(params, id * 2);
+        }
+        returnTypes[id] = returnType;
+        params[id] = paramTypes;
+    }
+}
@@ -2,13 +2,21 @@ package src.parser;
 
 import src.ParseSyntaxError;
 import src.tokenizer.Token;
-
-import java.util.ArrayList;
+import src.tokenizer.TokenStream;
 
 import static src.ErrorHandler.generateErrorString;
-import static src.ErrorHandler.printErrorParser;
+import static src.ErrorHandler.expectToken;
+import static src.ErrorHandler.syntaxError;
+import static src.parser.PredictTable.Nonterminal.STMT;
+import static src.parser.PredictTable.Production.ASMT;
+import static src.parser.PredictTable.Production.ID_STMT;
+import static src.parser.PredictTable.Production.TYPED_ASMT;
+import static src.parser.PredictTable.Production.TYPED_STMT;
+import static src.parser.PredictTable.Production.VAR_DEC;
 import static src.tokenizer.TokenType.*;
 
+import java.io.IOException;
+
 /**
  * This class is responsible for representing a parsed Jott statement node
  * when a JottTree is built
@@ -18,7 +26,7 @@ import static src.tokenizer.TokenType.*;
  * @author Austin Couch
  * @author Sam Harrell
  */
-public class StmtNode implements JottTree{
+public class StmtNode implements JottTree, Flattenable{
 
     private JottTree node;
     private Boolean isFunc = false;
@@ -27,44 +35,79 @@ public class StmtNode implements JottTree{
      * Constructor that will try to build a statement node from the provided Jott
      * tokens and will immediately throw a ParseSyntax error if it is unable to do so
      *
-     * @param tokens the ArrayList of Jott tokens to parse
+     * @param tokens the stream of Jott tokens to parse
      * @throws ParseSyntaxError if there are any unexpected tokens preventing the proper
      *                              formation of a representative statement
      */
-    public StmtNode(ArrayList<Token> tokens) throws ParseSyntaxError {
-       //if it is type, an ID, then semicolon, we have a variable declaration
-        if(tokens.size() >= 3 && (tokens.get(0).getToken().matches("Double|Integer|Boolean|String")
-        && tokens.get(1).getTokenType() == ID_KEYWORD && tokens.get(2).getTokenType() == SEMICOLON)){
+    public StmtNode(TokenStream tokens) throws ParseSyntaxError {
+        PredictTable.Production start = PredictTable.predict(STMT, tokens, 0);
+        //if it is type, an ID, then semicolon, we have a variable declaration and if it is type id = it is an assignment
+        PredictTable.Production typed = start == TYPED_STMT && tokens.canPeek(2) && tokens.peek(1).getTokenType() == ID_KEYWORD
+                ? PredictTable.predict(PredictTable.Nonterminal.TYPED_STMT, tokens, 2) : null;
+        if(typed == VAR_DEC){
             node = new VarDecNode(tokens);
-            //if it is a type id = or id = then it is an assignment
-        }else if(tokens.size() >= 3 && tokens.get(0).getToken().matches("Double|Integer|Boolean|String") && tokens.get(1).getTokenType() == ID_KEYWORD
-                && tokens.get(2).getTokenType() == ASSIGN){
+        }else if(typed == TYPED_ASMT){
             node = new AsmtNode(tokens);
-        }else if(tokens.size() >= 2 && tokens.get(0).getTokenType() == ID_KEYWORD && tokens.get(1).getTokenType() == ASSIGN
-        && !tokens.get(0).getToken().matches("Void|Double|Integer|Boolean|String|True|False")){
+            //if it is id = then it is an assignment, otherwise it must be a function call
+        }else if(start == ID_STMT && PredictTable.predict(PredictTable.Nonterminal.ID_STMT, tokens, 1) == ASMT){
             node = new AsmtNode(tokens);
-        }else if(!tokens.isEmpty() && tokens.get(0).getTokenType() == ID_KEYWORD && !tokens.get(0).getToken().matches("Void|Double|Integer|Boolean|String|True|False")){
-            Token func = tokens.get(0);
+        }else if(start == ID_STMT){
+            Token func = tokens.peek();
             node = new FuncCallNode(tokens);
-            printErrorParser(tokens, SEMICOLON, func, "func call stmt missing ;", "expected ; got ");
-            tokens.remove(0);
+            expectToken(tokens, SEMICOLON, func, "func call stmt missing ;", "expected ; got ");
+            tokens.next();
             isFunc = true;
         }else{
-            printErrorParser("Expected stmt start got " + generateErrorString(tokens.get(0)), tokens.get(0).getFilename(), tokens.get(0).getLineNum());
+            syntaxError("Expected stmt start got " + generateErrorString(tokens.peek()), tokens.peek().getFilename(), tokens.peek().getLineNum());
         }
     }
 
     /**
-     * Responsible for parsing a statement
+     * @return the declaration, assignment or function call this statement holds
+     */
+    public JottTree getStatement(){
+        return node;
+    }
+
+    /**
+     * @return true if this statement is a function call
+     */
+    public boolean isFuncCall(){
+        return isFunc;
+    }
+
+    /**
+     * Responsible for writing out a statement
      *
-     * @return this node's respective proper Jott representation as a string
+     * @param out where this node's respective proper Jott representation is written
+     * @throws IOException if out cannot be written to
      */
-    public String convertToJott(){
-        String readout = node.convertToJott();
+    public void emitJott(Appendable out) throws IOException {
+        node.emitJott(out);
         if(isFunc){
-            readout += ";";
+            out.append(';');
         }
-        return readout;
+    }
+
+    /**
+     * Adds this node to an arena, with its tokens and children in source order
+     *
+     * @param arena the builder of the arena being filled
+     */
+    public void flatten(AstArena.Builder arena){
+        arena.open(AstKind.STMT);
+        arena.child(node);
+        arena.close();
+    }
+
+    /**
+     * Passes this node to the visitor method for its type
+     *
+     * @param visitor the visitor to pass this node to
+     * @return what the visitor gives back
+     */
+    public <R> R accept(JottTreeVisitor<R> visitor){
+        return visitor.visitStmt(this);
     }
 
     // functions to be in future phases
@@ -0,0 +1,34 @@
+package src.parser;
+
+/**
+ * This class is responsible for the type of the JottTree nodes that are
+ * expressions, which every expression node extends. Ids and function calls
+ * can be of any type, so the class of an expression node does not always give its
+ * type. Validation works out the type of every expression once and keeps it on
+ * the node, so later passes can read it rather than looking it up again.
+ *
+ * @author Hritik "Ricky" Gupta
+ * @author Griffin Danner-Doran
+ * @author Austin Couch
+ * @author Sam Harrell
+ */
+public abstract class TypedExpr implements JottTree {
+
+    // the type of this expression, worked out once by validation
+    private JottType type = null;
+
+    /**
+     * @return the type of this expression, or null if the program has not been validated
+     *         or the type could not be worked out because of a semantic error
+     */
+    public JottType getType(){
+        return type;
+    }
+
+    /**
+     * @param type the type worked out for this expression by validation
+     */
+    void setType(JottType type){
+        this.type = type;
+    }
+}
@@ -69,11 +69,31 @@ public class Utils {
     public static String STR = "str";
     public static String S_EXPR = "s_expr";
 
+    // the first sets are compiled once, as compiling every Pattern on each call is costly
+    private static final HashMap<String, Pattern> FIRST_SET_TOKEN_KEY = buildFirstSetTokenKey();
+    private static final HashMap<Pattern, ArrayList<String>> FIRST_SET_REGEX_KEY = buildFirstSetRegexKey();
+
     /**
      * @return The first set for the Jott language, where the keys are tokens
-     * and the values are the regex needed to recognize it.
+     * and the values are the regex needed to recognize it. The map is a copy,
+     * so the caller may change it.
      */
     public static HashMap<String, Pattern> getFirstSetTokenKey() {
+        return new HashMap<>(FIRST_SET_TOKEN_KEY);
+    }
+
+    /**
+     * @return The first set for the Jott language, where the keys are regexes
+     * and the values are an ArrayList of all the possible tokens that could be.
+     * The map and its lists are copies, so the caller may change them.
+     */
+    public static HashMap<Pattern, ArrayList<String>> getFirstSetRegexKey() {
+        HashMap<Pattern, ArrayList<String>> firstSet = new HashMap<>();
+        FIRST_SET_REGEX_KEY.forEach((regex, names) -> firstSet.put(regex, new ArrayList<>(names)));
+        return firstSet;
+    }
+
+    private static HashMap<String, Pattern> buildFirstSetTokenKey() {
         HashMap<String, Pattern> firstSet = new HashMap<>();
 
         firstSet.put(PROGRAM, Pattern.compile("\\p{Lower}|^$"));
@@ -133,11 +153,7 @@ public class Utils {
         return firstSet;
     }
 
-    /**
-     * @return The first set for the Jott language, where the keys are regexes
-     * and the values are an ArrayList of all the possible tokens that could be.
-     */
-    public static HashMap<Pattern, ArrayList<String>> getFirstSetRegexKey() {
+    private static HashMap<Pattern, ArrayList<String>> buildFirstSetRegexKey() {
         HashMap<Pattern, ArrayList<String>> firstSet = new HashMap<>();
 
         firstSet.put(Pattern.compile("\\p{Lower}"), new ArrayList<>(List.of(
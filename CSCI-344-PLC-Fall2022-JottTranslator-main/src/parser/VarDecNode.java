@@ -1,13 +1,15 @@
 package src.parser;
 
 import src.ParseSyntaxError;
+import src.tokenizer.Keywords;
 import src.tokenizer.Token;
+import src.tokenizer.TokenStream;
 
-import java.util.ArrayList;
-
-import static src.ErrorHandler.printErrorParser;
+import static src.ErrorHandler.expectToken;
 import static src.tokenizer.TokenType.*;
 
+import java.io.IOException;
+
 /**
  * This class is responsible for representing a parsed Jott variable declaration node
  * when a JottTree is built
@@ -17,7 +19,7 @@ import static src.tokenizer.TokenType.*;
  * @author Austin Couch
  * @author Sam Harrell
  */
-public class VarDecNode implements JottTree{
+public class VarDecNode implements JottTree, Flattenable{
 
     private Token idType;
     private Token id;
@@ -26,30 +28,68 @@ public class VarDecNode implements JottTree{
      * Constructor that will try to build a variable declaration node from the provided Jott
      * tokens and will immediately throw a ParseSyntax error if it is unable to do so
      *
-     * @param tokens the ArrayList of Jott tokens to parse
+     * @param tokens the stream of Jott tokens to parse
      * @throws ParseSyntaxError if there are any unexpected tokens preventing the proper
      *                              formation of a representative variable declaration
      */
-    public VarDecNode(ArrayList<Token> tokens) throws ParseSyntaxError {
+    public VarDecNode(TokenStream tokens) throws ParseSyntaxError {
         //if we are in this node, we know our first token is a type
-        idType = tokens.remove(0);
+        idType = tokens.next();
         //next item should be an id
-        if(!tokens.isEmpty() && tokens.get(0).getTokenType() == ID_KEYWORD && !tokens.get(0).getToken().matches("Void|Double|Integer|Boolean|String|True|False")){
-            id = tokens.remove(0);
+        if(!tokens.isEmpty() && tokens.peek().getTokenType() == ID_KEYWORD && !Keywords.isReserved(tokens.peek())){
+            id = tokens.next();
         }else{
-            printErrorParser(tokens, null, idType, "var dec missing id", "expected id got ");
+            expectToken(tokens, null, idType, "var dec missing id", "expected id got ");
         }
-        printErrorParser(tokens, SEMICOLON, idType, "var dec missing ;", "expected ; got ");
-        tokens.remove(0);
+        expectToken(tokens, SEMICOLON, idType, "var dec missing ;", "expected ; got ");
+        tokens.next();
+
+    }
+
+    /**
+     * @return the type of the variable
+     */
+    public Token getType(){
+        return idType;
+    }
+
+    /**
+     * @return the id of the variable
+     */
+    public Token getId(){
+        return id;
+    }
+
+    /**
+     * Responsible for writing out a variable declaration
+     *
+     * @param out where this node's respective proper Jott representation is written
+     * @throws IOException if out cannot be written to
+     */
+    public void emitJott(Appendable out) throws IOException {
+        out.append(idType.getToken()).append(id.getToken()).append(';');
+    }
 
+    /**
+     * Adds this node to an arena, with its tokens and children in source order
+     *
+     * @param arena the builder of the arena being filled
+     */
+    public void flatten(AstArena.Builder arena){
+        arena.open(AstKind.VAR_DEC);
+        arena.token(idType);
+        arena.token(id);
+        arena.close();
     }
 
     /**
-     * Responsible for parsing a variable declaration
+     * Passes this node to the visitor method for its type
      *
-     * @return this node's respective proper Jott representation as a string
+     * @param visitor the visitor to pass this node to
+     * @return what the visitor gives back
      */
-    public String convertToJott(){return idType.getToken() + id.getToken() + ";";
+    public <R> R accept(JottTreeVisitor<R> visitor){
+        return visitor.visitVarDec(this);
     }
 
     // functions to be in future phases
@@ -2,12 +2,14 @@ package src.parser;
 
 import src.ParseSyntaxError;
 import src.tokenizer.Token;
+import src.tokenizer.TokenStream;
 
-import java.util.ArrayList;
-
-import static src.ErrorHandler.printErrorParser;
+import static src.ErrorHandler.expectToken;
+import static src.ErrorHandler.syntaxError;
 import static src.tokenizer.TokenType.*;
 
+import java.io.IOException;
+
 /**
  * This class is responsible for representing a parsed Jott while statement node
  * when a JottTree is built
@@ -17,7 +19,7 @@ import static src.tokenizer.TokenType.*;
  * @author Austin Couch
  * @author Sam Harrell
  */
-public class WhileStmtNode implements JottTree{
+public class WhileStmtNode implements JottTree, Flattenable{
 
     private JottTree cond;
     private JottTree body;
@@ -26,41 +28,82 @@ public class WhileStmtNode implements JottTree{
      * Constructor that will try to build a while statement node from the provided Jott
      * tokens and will immediately throw a ParseSyntax error if it is unable to do so
      *
-     * @param tokens the ArrayList of Jott tokens to parse
+     * @param tokens the stream of Jott tokens to parse
      * @throws ParseSyntaxError if there are any unexpected tokens preventing the proper
      *                              formation of a representative while statement
      */
-    public WhileStmtNode(ArrayList<Token> tokens) throws ParseSyntaxError {
+    public WhileStmtNode(TokenStream tokens) throws ParseSyntaxError {
         //if we are in this node, the function list detected a while token
-        Token w = tokens.remove(0);
-        printErrorParser(tokens, L_BRACKET, w, "while stmt missing [", "expected [ got ");
-        tokens.remove(0);
-        if(!tokens.isEmpty() && tokens.get(0).getTokenType() != R_BRACKET){// b_expr can start with basically anything, let it handle itself
-            cond = new BExprNode(tokens);
+        Token w = tokens.next();
+        expectToken(tokens, L_BRACKET, w, "while stmt missing [", "expected [ got ");
+        tokens.next();
+        if(!tokens.isEmpty() && tokens.peek().getTokenType() != R_BRACKET){// b_expr can start with basically anything, let it handle itself
+            cond = ExprParser.parseBool(tokens);
         }else{
             //however, if the next thing we see is an r bracket, we dont have cond, which is an issue
-            printErrorParser("while stmt missing condition", tokens.get(0).getFilename(),tokens.get(0).getLineNum());
+            Token at = tokens.isEmpty() ? w : tokens.peek();
+            syntaxError("while stmt missing condition", at.getFilename(), at.getLineNum());
         }
-        printErrorParser(tokens, R_BRACKET, w, "while stmt missing ]", "expected ] got ");
-        tokens.remove(0);
-        printErrorParser(tokens, L_BRACE, w, "while stmt missing {", "expected { got ");
-        tokens.remove(0);
+        expectToken(tokens, R_BRACKET, w, "while stmt missing ]", "expected ] got ");
+        tokens.next();
+        expectToken(tokens, L_BRACE, w, "while stmt missing {", "expected { got ");
+        tokens.next();
         //let body handle its own checking
         if(!tokens.isEmpty()){
             body = new BodyNode(tokens);
         }
-        printErrorParser(tokens, R_BRACE, w, "while stmt missing }", "expected } got ");
-        tokens.remove(0);
+        expectToken(tokens, R_BRACE, w, "while stmt missing }", "expected } got ");
+        tokens.next();
+    }
+
+    /**
+     * @return the condition of the loop
+     */
+    public JottTree getCond(){
+        return cond;
+    }
+
+    /**
+     * @return the body of the loop
+     */
+    public JottTree getBody(){
+        return body;
     }
 
     /**
-     * Responsible for parsing a while statement
+     * Responsible for writing out a while statement
      *
-     * @return this node's respective proper Jott representation as a string
+     * @param out where this node's respective proper Jott representation is written
+     * @throws IOException if out cannot be written to
      */
-    public String convertToJott(){
-        return "while[" + cond.convertToJott() + "]{" + body.convertToJott() + "}";
+    public void emitJott(Appendable out) throws IOException {
+        out.append("while[");
+        cond.emitJott(out);
+        out.append("]{");
+        body.emitJott(out);
+        out.append('}');
+    }
 
+    /**
+     * Adds this node to an arena, with its tokens and children in source order
+     *
+     * @param arena the builder of the arena being filled
+     */
+    public void flatten(AstArena.Builder arena){
+        arena.open(AstKind.WHILE_LOOP);
+        arena.child(cond);
+        arena.child(body);
+        arena.close();
+    }
+
+    /**
+     * Passes this node to the visitor method for its type
+     *
+     * @param visitor the visitor to pass this node to
+     * @return what the visitor gives back
+     */
+    public <R> R accept(JottTreeVisitor<R> visitor){
+        return visitor.visitWhileStmt(this);
     }
 
     // functions to be in future phases
@@ -0,0 +1,67 @@
+package src.tokenizer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This class presents raw bytes of Jott source as characters without decoding
+ * them. Jott is pure ASCII outside of comments, so each byte is read as one
+ * character. Bytes above 0x7F come through as characters above 0x7F, which
+ * the scanner rejects as invalid tokens anywhere but inside a comment.
+ *
+ * @author Hritik "Ricky" Gupta
+ * @author Griffin Danner-Doran
+ * @author Austin Couch
+ * @author Sam Harrell
+ */
+class AsciiSource implements CharSequence {
+	private final ByteBuffer bytes;
+	// the backing array of a heap buffer, read directly as it is cheaper than going through the buffer
+	private final byte[] array;
+	private final int offset;
+
+	/**
+	 * Creates a view over bytes
+	 *
+	 * @param bytes the bytes of the source, from index 0 to the buffer's limit.
+	 *              The buffer is read in place and must not change while in use
+	 */
+	AsciiSource(ByteBuffer bytes) {
+		this.bytes = bytes;
+		if (bytes.hasArray()) {
+			this.array = bytes.array();
+			this.offset = bytes.arrayOffset();
+		} else {
+			this.array = null;
+			this.offset = 0;
+		}
+	}
+
+	@Override
+	public int length() {
+		return bytes.limit();
+	}
+
+	@Override
+	public char charAt(int index) {
+		if (array != null) {
+			return (char) (array[offset + index] & 0xFF);
+		}
+		return (char) (bytes.get(index) & 0xFF);
+	}
+
+	@Override
+	public CharSequence subSequence(int start, int end) {
+		if (array != null) {
+			return new String(array, offset + start, end - start, StandardCharsets.ISO_8859_1);
+		}
+		byte[] text = new byte[end - start];
+		bytes.get(start, text);
+		return new String(text, StandardCharsets.ISO_8859_1);
+	}
+
+	@Override
+	public String toString() {
+		return subSequence(0, length()).toString();
+	}
+}
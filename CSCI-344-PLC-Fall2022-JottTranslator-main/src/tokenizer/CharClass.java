@@ -0,0 +1,69 @@
+package src.tokenizer;
+
+/**
+ * This class holds a precomputed classification of every ASCII character
+ * used by Jott, so that character checks are a single table lookup rather
+ * than a regex match. Anything outside of ASCII has no class.
+ *
+ * @author Hritik "Ricky" Gupta
+ * @author Griffin Danner-Doran
+ * @author Austin Couch
+ * @author Sam Harrell
+ */
+public final class CharClass {
+	public static final int LOWER = 1;
+	public static final int UPPER = 1 << 1;
+	public static final int DIGIT = 1 << 2;
+	public static final int WHITESPACE = 1 << 3;
+	public static final int OPERATOR = 1 << 4;
+	public static final int PUNCTUATION = 1 << 5;
+	// characters allowed between the quotes of a string literal
+	public static final int STRING = 1 << 6;
+
+	public static final int LETTER = LOWER | UPPER;
+	public static final int ALPHANUMERIC = LETTER | DIGIT;
+
+	private static final byte[] TABLE = new byte[128];
+
+	static {
+		for (char c = 'a'; c <= 'z'; c++) {
+			TABLE[c] = LOWER | STRING;
+		}
+		for (char c = 'A'; c <= 'Z'; c++) {
+			TABLE[c] = UPPER | STRING;
+		}
+		for (char c = '0'; c <= '9'; c++) {
+			TABLE[c] = DIGIT | STRING;
+		}
+		TABLE[' '] = WHITESPACE | STRING;
+		TABLE['\t'] = WHITESPACE;
+		TABLE['\r'] = WHITESPACE;
+		TABLE['\n'] = WHITESPACE;
+		for (char c : "+-*/<>=!".toCharArray()) {
+			TABLE[c] = OPERATOR;
+		}
+		for (char c : ",[]{};:".toCharArray()) {
+			TABLE[c] = PUNCTUATION;
+		}
+	}
+
+	private CharClass() {}
+
+	/**
+	 * Checks a character against a set of classes
+	 *
+	 * @param c the character to check
+	 * @param classes the classes to check for, or'd together
+	 * @return true if the character belongs to any of the given classes
+	 */
+	public static boolean is(char c, int classes) {
+		return c < TABLE.length && (TABLE[c] & classes) != 0;
+	}
+
+	public static boolean isLetter(char c) { return is(c, LETTER); }
+	public static boolean isUpper(char c) { return is(c, UPPER); }
+	public static boolean isDigit(char c) { return is(c, DIGIT); }
+	public static boolean isAlphanumeric(char c) { return is(c, ALPHANUMERIC); }
+	public static boolean isWhitespace(char c) { return is(c, WHITESPACE); }
+	public static boolean isStringChar(char c) { return is(c, STRING); }
+}
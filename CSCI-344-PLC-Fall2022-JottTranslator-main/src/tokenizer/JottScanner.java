@@ -0,0 +1,290 @@
+package src.tokenizer;
+
+import src.ErrorHandler;
+
+import static src.tokenizer.TokenType.*;
+
+/**
+ * This class is responsible for scanning Jott source one lexeme at a time.
+ * It walks the source with an index cursor, so scanning is linear in the
+ * length of the source and no character is ever boxed or shifted.
+ *
+ * @author Hritik "Ricky" Gupta
+ * @author Griffin Danner-Doran
+ * @author Austin Couch
+ * @author Sam Harrell
+ */
+class JottScanner {
+	private static final String invalidTokenMsg = "Invalid Token";
+
+	private static final char NEWLINE_CHAR = '\n';
+	private static final char CARR_RET_CHAR = '\r';
+	private static final char TAB_CHAR = '\t';
+	private static final char WHITESPACE_CHAR = ' ';
+	private static final char COMMA_CHAR = ',';
+	private static final char RBRACKET_CHAR = ']';
+	private static final char LBRACKET_CHAR = '[';
+	private static final char RBRACE_CHAR = '}';
+	private static final char LBRACE_CHAR = '{';
+	private static final char EQUALS_CHAR = '=';
+	private static final char LARROW_CHAR = '<';
+	private static final char RARROW_CHAR = '>';
+	private static final char DIVISION_CHAR = '/';
+	private static final char ADDITION_CHAR = '+';
+	private static final char MINUS_CHAR = '-';
+	private static final char MULTIPLICATION_CHAR = '*';
+	private static final char SEMICOLON_CHAR = ';';
+	private static final char DOT_CHAR = '.';
+	private static final char COLON_CHAR = ':';
+	private static final char BANG_CHAR = '!';
+	private static final char DOUBLE_QUOTE_CHAR = '"';
+	private static final char POUND = '#';
+	private static final char ASCII_MAX = 0x7F;
+
+	private final SourceFile file;
+	private final CharSequence source;
+	private final int end;
+	private int pos;
+
+	// the lexeme found by the last call to next()
+	private TokenType type;
+	private Keyword keyword;
+	private boolean doubleLiteral;
+	private long literal;
+	private int start;
+
+	// set when the last call to next() stopped on an invalid token
+	private String errorMessage = null;
+
+	/**
+	 * Creates a scanner over the given source
+	 *
+	 * @param file the Jott source to scan
+	 */
+	JottScanner(SourceFile file) {
+		this(file, 0, file.getContent().length());
+	}
+
+	/**
+	 * Creates a scanner over part of the given source. The part should begin
+	 * at the start of a line and end after a newline or at the end of the
+	 * source, as no token can run past a newline
+	 *
+	 * @param file the Jott source to scan
+	 * @param from the offset to start scanning at
+	 * @param to the offset to stop scanning before
+	 */
+	JottScanner(SourceFile file, int from, int to) {
+		this.file = file;
+		this.source = file.getContent();
+		this.pos = from;
+		this.end = to;
+	}
+
+	/**
+	 * Scans forward to the next lexeme in the source
+	 *
+	 * @return true if a lexeme was found, false at the end of the source
+	 *         or when an invalid token was found (see {@link #hasError()})
+	 */
+	boolean next() {
+		while (pos < end) {
+			start = pos;
+			char currentChar = source.charAt(pos++);
+
+			switch (currentChar) {
+				// all base cases(single characters)
+				//clears whitespace, lines are found from token offsets when needed
+				case NEWLINE_CHAR, WHITESPACE_CHAR, CARR_RET_CHAR, TAB_CHAR -> {}
+				case COMMA_CHAR -> { return found(COMMA); }
+				case RBRACKET_CHAR -> { return found(R_BRACKET); }
+				case LBRACKET_CHAR -> { return found(L_BRACKET); }
+				case LBRACE_CHAR -> { return found(L_BRACE); }
+				case RBRACE_CHAR -> { return found(R_BRACE); }
+				case SEMICOLON_CHAR -> { return found(SEMICOLON); }
+				case COLON_CHAR -> { return found(COLON); }
+
+				//comment escape
+				case POUND -> {
+					while (pos < end && source.charAt(pos++) != NEWLINE_CHAR) {}
+				}
+
+				// mathOps
+				case ADDITION_CHAR, MINUS_CHAR, MULTIPLICATION_CHAR, DIVISION_CHAR -> { return found(MATH_OP); }
+
+				// relOps
+				case LARROW_CHAR, RARROW_CHAR -> {
+					skipIf(EQUALS_CHAR);
+					return found(REL_OP);
+				}
+
+				case EQUALS_CHAR -> {
+					return found(skipIf(EQUALS_CHAR) ? REL_OP : ASSIGN);
+				}
+
+				// extra-step cases
+				case BANG_CHAR -> {
+					if (!skipIf(EQUALS_CHAR)) {
+						return error(invalidTokenMsg);
+					}
+					return found(REL_OP);
+				}
+
+				case DOUBLE_QUOTE_CHAR -> {
+					while (pos < end && CharClass.isStringChar(source.charAt(pos))) {
+						pos++;
+					}
+
+					if (!skipIf(DOUBLE_QUOTE_CHAR)) {
+						return error("Invalid token - open string");
+					}
+					return found(STRING);
+				}
+
+				case DOT_CHAR -> {
+					if (pos >= end || !CharClass.isDigit(source.charAt(pos))) {
+						return error("Invalid token - missing companion digit");
+					}
+
+					skipDigits();
+					return foundNumber(true);
+				}
+
+				// more complex cases
+				default -> {
+					// id, keyword
+					if (CharClass.isLetter(currentChar)) {
+						while (pos < end && CharClass.isAlphanumeric(source.charAt(pos))) {
+							pos++;
+						}
+						found(ID_KEYWORD);
+						keyword = Keyword.lookup(source, start, pos);
+						return true;
+
+					// number
+					} else if (CharClass.isDigit(currentChar)) {
+						skipDigits();
+						//if the next char is . the number continues
+						boolean isDouble = skipIf(DOT_CHAR);
+						if (isDouble) {
+							skipDigits();
+						}
+						return foundNumber(isDouble);
+
+					//Jott is ASCII, so anything past it cannot be a token
+					} else if (currentChar > ASCII_MAX) {
+						return error("Invalid token - non-ASCII character");
+
+					//case for non-language characters
+					} else {
+						return error("Invalid token - token not in language");
+					}
+				}
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * @return true if scanning stopped on an invalid token
+	 */
+	boolean hasError() {
+		return errorMessage != null;
+	}
+
+	/**
+	 * Reports the invalid token that stopped scanning to standard error
+	 */
+	void printError() {
+		ErrorHandler.printErrorTokenizer(errorMessage, text(), file.getPath(), file.lineOf(start));
+	}
+
+	/**
+	 * @return the type of the current lexeme
+	 */
+	TokenType type() {
+		return type;
+	}
+
+	/**
+	 * @return the keyword the current lexeme spells, or null if it is not a keyword
+	 */
+	Keyword keyword() {
+		return keyword;
+	}
+
+	/**
+	 * @return true if the current lexeme is a double literal
+	 */
+	boolean isDoubleLiteral() {
+		return type == NUMBER && doubleLiteral;
+	}
+
+	/**
+	 * @return the value of the current lexeme if it is a number, as stored by NumberLiteral.parse
+	 */
+	long literal() {
+		return type == NUMBER ? literal : 0;
+	}
+
+	/**
+	 * @return the text of the current lexeme
+	 */
+	String text() {
+		return source.subSequence(start, pos).toString();
+	}
+
+	/**
+	 * @return the offset of the first character of the current lexeme
+	 */
+	int start() {
+		return start;
+	}
+
+	/**
+	 * @return the number of characters in the current lexeme
+	 */
+	int length() {
+		return pos - start;
+	}
+
+	/**
+	 * @return a Token for the current lexeme
+	 */
+	Token token() {
+		return new Token(text(), file, start, type, keyword, isDoubleLiteral(), literal());
+	}
+
+	private boolean found(TokenType t) {
+		type = t;
+		keyword = null;
+		return true;
+	}
+
+	private boolean foundNumber(boolean isDouble) {
+		found(NUMBER);
+		doubleLiteral = isDouble;
+		literal = NumberLiteral.parse(source, start, pos, isDouble);
+		return true;
+	}
+
+	private boolean error(String message) {
+		errorMessage = message;
+		return false;
+	}
+
+	private boolean skipIf(char c) {
+		if (pos < end && source.charAt(pos) == c) {
+			pos++;
+			return true;
+		}
+		return false;
+	}
+
+	private void skipDigits() {
+		while (pos < end && CharClass.isDigit(source.charAt(pos))) {
+			pos++;
+		}
+	}
+}
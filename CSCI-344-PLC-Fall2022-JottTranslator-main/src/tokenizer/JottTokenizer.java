@@ -1,14 +1,12 @@
 package src.tokenizer;
 
-import src.ErrorHandler;
-
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Paths;
+import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
-
-import static src.ErrorHandler.printErrorParser;
-import static src.tokenizer.TokenType.*;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 /**
  * This class is responsible for tokenizing Jott code.
@@ -19,187 +17,284 @@ import static src.tokenizer.TokenType.*;
  * @author Sam Harrell
  */
 public class JottTokenizer {
-	private static final String invalidTokenMsg = "Invalid Token";
-
-	private static final char NEWLINE_CHAR = '\n';
-	private static final char CARR_RET_CHAR = '\r';
-	private static final char TAB_CHAR = '\t';
-	private static final char WHITESPACE_CHAR = ' ';
-	private static final char COMMA_CHAR = ',';
-	private static final char RBRACKET_CHAR = ']';
-	private static final char LBRACKET_CHAR = '[';
-	private static final char RBRACE_CHAR = '}';
-	private static final char LBRACE_CHAR = '{';
-	private static final char EQUALS_CHAR = '=';
-	private static final char LARROW_CHAR = '<';
-	private static final char RARROW_CHAR = '>';
-	private static final char DIVISION_CHAR = '/';
-	private static final char ADDITION_CHAR = '+';
-	private static final char MINUS_CHAR = '-';
-	private static final char MULTIPLICATION_CHAR = '*';
-	private static final char SEMICOLON_CHAR = ';';
-	private static final char DOT_CHAR = '.';
-	private static final char COLON_CHAR = ':';
-	private static final char BANG_CHAR = '!';
-	private static final char DOUBLE_QUOTE_CHAR = '"';
-	private static final char POUND = '#';
 
 	/**
-	 * Creates a character ArrayList that contains every character of the
-	 * original file in the order it appears.
-	 *
-	 * @param filename path to the file to be read
-	 * @return ArrayList of char based on the original file
-	 * @throws IOException if there's an issue when reading the filename
+     * Takes in a filename and tokenizes that file into Tokens
+     * based on the rules of the Jott Language
+     * @param filename the name of the file to tokenize; can be relative or absolute path
+     * @return an ArrayList of Jott Tokens
+     */
+    public static ArrayList<Token> tokenize(String filename) {
+		TokenBuffer buffer = tokenizeToBuffer(filename);
+		return buffer == null ? null : buffer.toTokenList();
+	}
+
+	/**
+	 * Tokenizes Jott source that is already in memory into Tokens
+	 * based on the rules of the Jott Language
+	 * @param source the Jott source to tokenize
+	 * @param sourceName the name reported for this source in tokens and errors
+	 * @return an ArrayList of Jott Tokens
 	 */
-	private static ArrayList<Character> createCharArrayList(String filename) throws IOException {
-		String program = new String(Files.readAllBytes(Paths.get(filename)));
-		ArrayList<Character> charList = new ArrayList<>();
+	public static ArrayList<Token> tokenize(CharSequence source, String sourceName) {
+		TokenBuffer buffer = tokenizeToBuffer(source, sourceName);
+		return buffer == null ? null : buffer.toTokenList();
+	}
+
+	/**
+	 * Reads Jott source from a Reader to its end and tokenizes it into Tokens
+	 * based on the rules of the Jott Language. The reader is not closed.
+	 * @param reader the reader to take the Jott source from
+	 * @param sourceName the name reported for this source in tokens and errors
+	 * @return an ArrayList of Jott Tokens
+	 */
+	public static ArrayList<Token> tokenize(Reader reader, String sourceName) {
+		StringBuilder source = new StringBuilder();
+		char[] chunk = new char[8192];
 
-		for (var ch : program.toCharArray()) {
-			charList.add(ch);
+		try {
+			int read;
+			while ((read = reader.read(chunk)) != -1) {
+				source.append(chunk, 0, read);
+			}
+		} catch (IOException e) {
+			System.err.println(e);
+			return null;
 		}
 
-		return charList;
+		return tokenize(source, sourceName);
 	}
 
 	/**
-     * Takes in a filename and tokenizes that file into Tokens
-     * based on the rules of the Jott Language
-     * @param filename the name of the file to tokenize; can be relative or absolute path
-     * @return an ArrayList of Jott Tokens
-     */
-    public static ArrayList<Token> tokenize(String filename) {
-		ArrayList<Character> charArray;
-		ArrayList<Token> tokenList = new ArrayList<>();
-		int lineNum = 1;
+	 * Tokenizes the raw bytes of Jott source into Tokens
+	 * based on the rules of the Jott Language. The bytes are scanned in place
+	 * as ASCII without being decoded, the same way a file's are, and the
+	 * buffer's position is left where it was.
+	 * @param bytes the Jott source to tokenize, from its position to its limit
+	 * @param sourceName the name reported for this source in tokens and errors
+	 * @return an ArrayList of Jott Tokens
+	 */
+	public static ArrayList<Token> tokenize(ByteBuffer bytes, String sourceName) {
+		TokenBuffer buffer = tokenizeToBuffer(bytes, sourceName);
+		return buffer == null ? null : buffer.toTokenList();
+	}
+
+	/**
+	 * Takes in a filename and tokenizes that file into a compact TokenBuffer
+	 * based on the rules of the Jott Language
+	 * @param filename the name of the file to tokenize; can be relative or absolute path
+	 * @return a TokenBuffer over the file's contents, or null if the file
+	 *         could not be read or held an invalid token
+	 */
+	public static TokenBuffer tokenizeToBuffer(String filename) {
+		SourceFile program;
 
 		try {
-			charArray = createCharArrayList(filename);
+			program = SourceFile.read(filename);
 		} catch (IOException e) {
 			System.err.println(e);
 			return null;
 		}
 
-		while (!charArray.isEmpty()) {
-			char currentChar = charArray.remove(0);
-			StringBuilder tokenStringBuilder = new StringBuilder();
-			tokenStringBuilder.append(currentChar);
-
-			switch (currentChar) {
-				// all base cases(single characters)
-				case NEWLINE_CHAR -> lineNum++;
-				//clears whitespace
-				case WHITESPACE_CHAR, CARR_RET_CHAR, TAB_CHAR -> {}
-				case COMMA_CHAR -> tokenList.add(new Token(tokenStringBuilder.toString(), filename, lineNum, COMMA));
-				case RBRACKET_CHAR -> tokenList.add(new Token(tokenStringBuilder.toString(), filename, lineNum, R_BRACKET));
-				case LBRACKET_CHAR -> tokenList.add(new Token(tokenStringBuilder.toString(), filename, lineNum, L_BRACKET));
-				case LBRACE_CHAR -> tokenList.add(new Token(tokenStringBuilder.toString(), filename, lineNum, L_BRACE));
-				case RBRACE_CHAR -> tokenList.add(new Token(tokenStringBuilder.toString(), filename, lineNum, R_BRACE));
-				case SEMICOLON_CHAR -> tokenList.add(new Token(tokenStringBuilder.toString(), filename, lineNum, SEMICOLON));
-				case COLON_CHAR -> tokenList.add(new Token(tokenStringBuilder.toString(), filename, lineNum, COLON));
-
-				//comment escape
-				case POUND -> {
-					while (!charArray.isEmpty() && charArray.remove(0) != '\n'){}
-					lineNum++;
-				}
+		return tokenizeToBuffer(program);
+	}
 
-				// mathOps
-				case ADDITION_CHAR, MINUS_CHAR, MULTIPLICATION_CHAR, DIVISION_CHAR ->
-						tokenList.add(new Token(tokenStringBuilder.toString(), filename, lineNum, MATH_OP));
+	/**
+	 * Tokenizes Jott source that is already in memory into a compact TokenBuffer
+	 * based on the rules of the Jott Language
+	 * The source is not copied, so it must not change while the buffer is in use
+	 * @param source the Jott source to tokenize
+	 * @param sourceName the name reported for this source in tokens and errors
+	 * @return a TokenBuffer over the source, or null if it held an invalid token
+	 */
+	public static TokenBuffer tokenizeToBuffer(CharSequence source, String sourceName) {
+		return tokenizeToBuffer(new SourceFile(sourceName, source));
+	}
 
-				// relOps
-				case LARROW_CHAR, RARROW_CHAR -> {
-					if (!charArray.isEmpty() && charArray.get(0) == EQUALS_CHAR) {
-						tokenStringBuilder.append(charArray.remove(0));
-					}
+	/**
+	 * Tokenizes the raw bytes of Jott source into a compact TokenBuffer
+	 * based on the rules of the Jott Language, scanning them in place as ASCII.
+	 * The bytes are not copied, so they must not change while the buffer is in use
+	 * @param bytes the Jott source to tokenize, from its position to its limit,
+	 *              such as a MappedByteBuffer over a file
+	 * @param sourceName the name reported for this source in tokens and errors
+	 * @return a TokenBuffer over the source, or null if it held an invalid token
+	 */
+	public static TokenBuffer tokenizeToBuffer(ByteBuffer bytes, String sourceName) {
+		return tokenizeToBuffer(SourceFile.ofBytes(sourceName, bytes));
+	}
 
-					tokenList.add(new Token(tokenStringBuilder.toString(), filename, lineNum, REL_OP));
-				}
+	/**
+	 * Takes in a filename and tokenizes that file into Tokens
+	 * based on the rules of the Jott Language, splitting a large file into
+	 * chunks of whole lines that are tokenized on separate threads.
+	 * The result, including any error reported, is the same as {@link #tokenize(String)}
+	 * @param filename the name of the file to tokenize; can be relative or absolute path
+	 * @return an ArrayList of Jott Tokens
+	 */
+	public static ArrayList<Token> tokenizeParallel(String filename) {
+		TokenBuffer buffer = tokenizeToBufferParallel(filename);
+		return buffer == null ? null : buffer.toTokenList();
+	}
 
-				case EQUALS_CHAR -> {
-					if (!charArray.isEmpty() && charArray.get(0) == EQUALS_CHAR) {
-						tokenStringBuilder.append(charArray.remove(0));
-						tokenList.add(new Token(tokenStringBuilder.toString(), filename, lineNum, REL_OP));
-					} else {
-						tokenList.add(new Token(tokenStringBuilder.toString(), filename, lineNum, ASSIGN));
-					}
-				}
+	/**
+	 * Takes in a filename and tokenizes that file into a compact TokenBuffer
+	 * based on the rules of the Jott Language, splitting a large file into
+	 * chunks of whole lines that are tokenized on separate threads
+	 * @param filename the name of the file to tokenize; can be relative or absolute path
+	 * @return a TokenBuffer over the file's contents, or null if the file
+	 *         could not be read or held an invalid token
+	 */
+	public static TokenBuffer tokenizeToBufferParallel(String filename) {
+		SourceFile program;
 
-				// extra-step cases
-				case BANG_CHAR -> {
-					if (charArray.isEmpty() || charArray.get(0) != EQUALS_CHAR) {
-						ErrorHandler.printErrorTokenizer(invalidTokenMsg, tokenStringBuilder.toString(), filename, lineNum);
-						return null;
-					}
+		try {
+			program = SourceFile.read(filename);
+		} catch (IOException e) {
+			System.err.println(e);
+			return null;
+		}
 
-					tokenStringBuilder.append(charArray.remove(0));
-					tokenList.add(new Token(tokenStringBuilder.toString(), filename, lineNum, REL_OP));
-				}
+		return tokenizeToBufferParallel(program);
+	}
 
-				case DOUBLE_QUOTE_CHAR -> {
-					while (!charArray.isEmpty() && Character.toString(charArray.get(0)).matches("[a-zA-Z0-9\s]")) {
-						tokenStringBuilder.append(charArray.remove(0));
-					}
+	/**
+	 * Tokenizes Jott source that is already in memory into a compact TokenBuffer
+	 * based on the rules of the Jott Language, splitting a large source into
+	 * chunks of whole lines that are tokenized on separate threads.
+	 * The source is not copied, so it must not change while the buffer is in use
+	 * @param source the Jott source to tokenize
+	 * @param sourceName the name reported for this source in tokens and errors
+	 * @return a TokenBuffer over the source, or null if it held an invalid token
+	 */
+	public static TokenBuffer tokenizeToBufferParallel(CharSequence source, String sourceName) {
+		return tokenizeToBufferParallel(new SourceFile(sourceName, source));
+	}
 
-					if (charArray.isEmpty() || charArray.get(0) != DOUBLE_QUOTE_CHAR) {
-						ErrorHandler.printErrorTokenizer("Invalid token - open string", tokenStringBuilder.toString(), filename, lineNum);
-						return null;
-					}
+	private static TokenBuffer tokenizeToBuffer(SourceFile program) {
+		return finish(program, List.of(new Chunk(program, 0, program.getContent().length()).scan()));
+	}
 
-					tokenStringBuilder.append(charArray.remove(0));
-					tokenList.add(new Token(tokenStringBuilder.toString(), filename, lineNum, STRING));
-				}
+	private static TokenBuffer tokenizeToBufferParallel(SourceFile program) {
+		return finish(program, ForkJoinPool.commonPool().invoke(new Chunk(program, 0, program.getContent().length())));
+	}
+
+	/**
+	 * Puts the tokens of the chunks of a source together in one buffer, copying
+	 * each chunk's tokens once
+	 *
+	 * @param program the source the chunks were taken from
+	 * @param chunks the chunks of the source in order, ending at the first one
+	 *               with an invalid token if there is one
+	 * @return a TokenBuffer over the source, or null if it held an invalid token
+	 */
+	private static TokenBuffer finish(SourceFile program, List<ScannedChunk> chunks) {
+		ScannedChunk last = chunks.get(chunks.size() - 1);
+		if (last.failed != null) {
+			last.failed.printError();
+			return null;
+		}
+		if (chunks.size() == 1) {
+			return last.tokens;
+		}
+
+		int total = 0;
+		for (ScannedChunk chunk : chunks) {
+			total += chunk.tokens.size();
+		}
+		TokenBuffer result = new TokenBuffer(program, total);
+		for (ScannedChunk chunk : chunks) {
+			result.addAll(chunk.tokens);
+		}
+		return result;
+	}
+
+	/**
+	 * The tokens of one chunk of a source, and the scanner that stopped on an
+	 * invalid token in it if there was one
+	 */
+	private static class ScannedChunk {
+		private final TokenBuffer tokens;
+		private final JottScanner failed;
+
+		private ScannedChunk(TokenBuffer tokens, JottScanner failed) {
+			this.tokens = tokens;
+			this.failed = failed;
+		}
+	}
 
-				case DOT_CHAR -> {
-					if (charArray.isEmpty() || !Character.toString(charArray.get(0)).matches("[0-9]")) {
-						ErrorHandler.printErrorTokenizer("Invalid token - missing companion digit", tokenStringBuilder.toString(), filename, lineNum);
-						return null;
-					}
+	/**
+	 * Tokenizes a range of a source, splitting it in two at a line break and
+	 * tokenizing the halves separately while it is larger than CHUNK_SIZE.
+	 * Comments and every token end at or before a newline, so a range that
+	 * starts on a new line can be scanned without knowing what came before it.
+	 * The chunks are handed back in order rather than joined, so their tokens
+	 * are only copied once, by finish
+	 */
+	@SuppressWarnings("serial") // only ever run in a pool, never serialized
+	private static class Chunk extends RecursiveTask<ArrayList<ScannedChunk>> {
+		private static final int CHUNK_SIZE = 1 << 18;
+		private static final char NEWLINE_CHAR = '\n';
 
-					tokenStringBuilder.append(charArray.remove(0));
-					while (!charArray.isEmpty() && Character.toString(charArray.get(0)).matches("[0-9]")) {
-						tokenStringBuilder.append(charArray.remove(0));
-					}
+		private final SourceFile program;
+		private final int from;
+		private final int to;
 
-					tokenList.add(new Token(tokenStringBuilder.toString(), filename, lineNum, NUMBER));
-				}
+		private Chunk(SourceFile program, int from, int to) {
+			this.program = program;
+			this.from = from;
+			this.to = to;
+		}
 
-				// more complex cases
-				default -> {
-					// id, keyword
-					if (Character.toString(currentChar).matches("[a-zA-z]")) {
-						while (!charArray.isEmpty() && Character.toString(charArray.get(0)).matches("[a-zA-Z0-9]")) {
-							tokenStringBuilder.append(charArray.remove(0));
-						}
-
-						tokenList.add(new Token(tokenStringBuilder.toString(), filename, lineNum, ID_KEYWORD));
-
-					// number
-					} else if (Character.toString(currentChar).matches("[0-9]")) {
-						while (!charArray.isEmpty() && Character.toString(charArray.get(0)).matches("[0-9]")) {
-							tokenStringBuilder.append(charArray.remove(0));
-						}
-						//if the next char is . the number continues
-						if (!charArray.isEmpty() && charArray.get(0) == DOT_CHAR) {
-							tokenStringBuilder.append(charArray.remove(0));
-							while (!charArray.isEmpty() && Character.toString(charArray.get(0)).matches("[0-9]")) {
-								tokenStringBuilder.append(charArray.remove(0));
-							}
-						}
-
-						tokenList.add(new Token(tokenStringBuilder.toString(), filename, lineNum, NUMBER));
-
-					//case for non-language characters
-					} else {
-						ErrorHandler.printErrorTokenizer("Invalid token - token not in language", tokenStringBuilder.toString(), filename, lineNum);
-						return null;
-					}
+		@Override
+		protected ArrayList<ScannedChunk> compute() {
+			int split = splitPoint();
+			if (split <= from || split >= to) {
+				ArrayList<ScannedChunk> chunks = new ArrayList<>();
+				chunks.add(scan());
+				return chunks;
+			}
+
+			Chunk left = new Chunk(program, from, split);
+			left.fork();
+			ArrayList<ScannedChunk> right = new Chunk(program, split, to).compute();
+			ArrayList<ScannedChunk> result = left.join();
+
+			// an invalid token ends the source, so nothing after the first one is kept
+			if (result.get(result.size() - 1).failed == null) {
+				result.addAll(right);
+			}
+			return result;
+		}
+
+		/**
+		 * @return the start of the first line past the middle of the range, or -1
+		 *         if the range is small enough to scan in one go or is being
+		 *         scanned outside of a pool
+		 */
+		private int splitPoint() {
+			if (to - from <= CHUNK_SIZE || !inForkJoinPool()) {
+				return -1;
+			}
+			CharSequence source = program.getContent();
+			for (int i = from + (to - from) / 2; i < to; i++) {
+				if (source.charAt(i) == NEWLINE_CHAR) {
+					return i + 1;
 				}
 			}
+			return -1;
 		}
 
-		return tokenList;
+		private ScannedChunk scan() {
+			TokenBuffer buffer = new TokenBuffer(program);
+			JottScanner scanner = new JottScanner(program, from, to);
+
+			while (scanner.next()) {
+				buffer.add(scanner.type(), scanner.keyword(), scanner.isDoubleLiteral(), scanner.literal(),
+						scanner.start(), scanner.length());
+			}
+
+			return new ScannedChunk(buffer, scanner.hasError() ? scanner : null);
+		}
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,124 @@
+package src.tokenizer;
+
+/**
+ * This represents the reserved words of Jott. Keywords are still ID_KEYWORD
+ * tokens, but the tokenizer tags each one with its Keyword as it is scanned
+ * so that later phases never have to compare the token text again.
+ */
+public enum Keyword {
+    VOID("Void"),
+    DOUBLE("Double"),
+    INTEGER("Integer"),
+    BOOLEAN("Boolean"),
+    STRING("String"),
+    TRUE("True"),
+    FALSE("False"),
+    IF("if"),
+    ELSEIF("elseif"),
+    ELSE("else"),
+    WHILE("while"),
+    RETURN("return");
+
+    private static final Keyword[] VALUES = values();
+    // keywords grouped by length; there are at most four of any one length
+    private static final Keyword[][] BY_LENGTH = new Keyword[8][];
+
+    static {
+        for (int len = 0; len < BY_LENGTH.length; len++) {
+            int count = 0;
+            for (Keyword k : VALUES) {
+                if (k.word.length() == len) {
+                    count++;
+                }
+            }
+            BY_LENGTH[len] = new Keyword[count];
+            count = 0;
+            for (Keyword k : VALUES) {
+                if (k.word.length() == len) {
+                    BY_LENGTH[len][count++] = k;
+                }
+            }
+        }
+    }
+
+    private final String word;
+
+    Keyword(String word) {
+        this.word = word;
+    }
+
+    /**
+     * @return the word as it is written in Jott
+     */
+    public String getWord() {
+        return word;
+    }
+
+    /**
+     * @return true if this is one of Double, Integer, Boolean or String
+     */
+    public boolean isType() {
+        return this == DOUBLE || this == INTEGER || this == BOOLEAN || this == STRING;
+    }
+
+    /**
+     * @return true if this is a type or Void
+     */
+    public boolean isReturnType() {
+        return this == VOID || isType();
+    }
+
+    /**
+     * @return true if this is True or False
+     */
+    public boolean isBool() {
+        return this == TRUE || this == FALSE;
+    }
+
+    /**
+     * @return true if this word cannot be used as an id
+     */
+    public boolean isReserved() {
+        return isReturnType() || isBool();
+    }
+
+    /**
+     * Finds the keyword spelled by a run of characters without copying them
+     *
+     * @param text the characters to look in
+     * @param start the index of the first character of the word
+     * @param end the index after the last character of the word
+     * @return the matching keyword, or null if the word is not a keyword
+     */
+    public static Keyword lookup(CharSequence text, int start, int end) {
+        int len = end - start;
+        if (len >= BY_LENGTH.length) {
+            return null;
+        }
+        for (Keyword k : BY_LENGTH[len]) {
+            if (k.spelledAt(text, start)) {
+                return k;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds the keyword spelled by a word
+     *
+     * @param text the word to check
+     * @return the matching keyword, or null if the word is not a keyword
+     */
+    public static Keyword lookup(CharSequence text) {
+        return lookup(text, 0, text.length());
+    }
+
+    private boolean spelledAt(CharSequence text, int start) {
+        for (int i = 0; i < word.length(); i++) {
+            if (text.charAt(start + i) != word.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
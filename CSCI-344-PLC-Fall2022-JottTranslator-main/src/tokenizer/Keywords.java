@@ -0,0 +1,65 @@
+package src.tokenizer;
+
+/**
+ * This class holds the checks the parser makes for the reserved words of
+ * Jott. Each check reads the Keyword the tokenizer tagged the token with,
+ * so no token text is compared.
+ *
+ * @author Hritik "Ricky" Gupta
+ * @author Griffin Danner-Doran
+ * @author Austin Couch
+ * @author Sam Harrell
+ */
+public final class Keywords {
+
+	private Keywords() {}
+
+	/**
+	 * @param t the token to check
+	 * @return true if the token is a type, Void, or a boolean literal and so cannot be used as an id
+	 */
+	public static boolean isReserved(Token t) {
+		return t.getKeyword() != null && t.getKeyword().isReserved();
+	}
+
+	/**
+	 * @param t the token to check
+	 * @return true if the token is one of Double, Integer, Boolean or String
+	 */
+	public static boolean isType(Token t) {
+		return t.getKeyword() != null && t.getKeyword().isType();
+	}
+
+	/**
+	 * @param t the token to check
+	 * @return true if the token is a type or Void
+	 */
+	public static boolean isReturnType(Token t) {
+		return t.getKeyword() != null && t.getKeyword().isReturnType();
+	}
+
+	/**
+	 * @param t the token to check
+	 * @return true if the token is Void
+	 */
+	public static boolean isVoid(Token t) {
+		return t.getKeyword() == Keyword.VOID;
+	}
+
+	/**
+	 * @param t the token to check
+	 * @return true if the token is True or False
+	 */
+	public static boolean isBool(Token t) {
+		return t.getKeyword() != null && t.getKeyword().isBool();
+	}
+
+	/**
+	 * @param t the token to check
+	 * @param k the keyword to look for
+	 * @return true if the token is the given keyword
+	 */
+	public static boolean is(Token t, Keyword k) {
+		return t.getKeyword() == k;
+	}
+}
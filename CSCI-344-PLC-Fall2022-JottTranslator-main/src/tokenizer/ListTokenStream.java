@@ -0,0 +1,152 @@
+package src.tokenizer;
+
+import java.util.List;
+
+/**
+ * This class is responsible for handing Tokens to the parser in order from a
+ * list that already holds every token. It reads the list of tokens through an index rather than removing tokens
+ * from the front of it, so consuming a token is constant time no matter
+ * how many are left, and the list itself is never changed.
+ *
+ * A position can be saved with {@link #mark()} and returned to with
+ * {@link #reset(int)}, so a parse can be tried ahead and then undone
+ * without copying the tokens.
+ *
+ * @author Hritik "Ricky" Gupta
+ * @author Griffin Danner-Doran
+ * @author Austin Couch
+ * @author Sam Harrell
+ */
+public class ListTokenStream extends TokenStream {
+
+	private final List<Token> tokens;
+	private int pos = 0;
+
+	/**
+	 * Creates a stream positioned before the first token of a list
+	 *
+	 * @param tokens the tokens to read, which must not change while in use
+	 */
+	public ListTokenStream(List<Token> tokens) {
+		this(tokens, DEFAULT_MAX_DEPTH);
+	}
+
+	/**
+	 * Creates a stream positioned before the first token of a list
+	 *
+	 * @param tokens the tokens to read, which must not change while in use
+	 * @param maxDepth the deepest nesting of constructs allowed, at least 1
+	 */
+	public ListTokenStream(List<Token> tokens, int maxDepth) {
+		super(maxDepth);
+		this.tokens = tokens;
+	}
+
+	/**
+	 * @return true if every token has been consumed
+	 */
+	@Override
+	public boolean isEmpty() {
+		return pos >= tokens.size();
+	}
+
+	/**
+	 * @return the number of tokens left to consume
+	 */
+	@Override
+	public int size() {
+		return tokens.size() - pos;
+	}
+
+	/**
+	 * @param k how many tokens past the next one to look, 0 being the next token
+	 * @return true if there is a token k places after the next one
+	 */
+	@Override
+	public boolean canPeek(int k) {
+		return k >= 0 && k < size();
+	}
+
+	/**
+	 * Looks ahead without consuming anything
+	 *
+	 * @param k how many tokens past the next one to look, 0 being the next token
+	 * @return the token k places after the next one
+	 * @throws IndexOutOfBoundsException if there are not that many tokens left
+	 */
+	@Override
+	public Token peek(int k) {
+		if (k < 0 || k >= size()) {
+			throw new IndexOutOfBoundsException("token " + k + " of " + size());
+		}
+		return tokens.get(pos + k);
+	}
+
+	/**
+	 * Consumes the next token
+	 *
+	 * @return the token that was consumed
+	 * @throws IndexOutOfBoundsException if there are no tokens left
+	 */
+	@Override
+	public Token next() {
+		Token token = peek(0);
+		pos++;
+		return token;
+	}
+
+	/**
+	 * @return the token consumed most recently, or null if none has been
+	 */
+	@Override
+	public Token previous() {
+		return pos == 0 ? null : tokens.get(pos - 1);
+	}
+
+	/**
+	 * @return the number of tokens consumed so far
+	 */
+	@Override
+	public int position() {
+		return pos;
+	}
+
+	/**
+	 * Saves the current position so it can be returned to
+	 *
+	 * @return the saved position, to be passed to {@link #reset(int)}
+	 */
+	@Override
+	public int mark() {
+		return pos;
+	}
+
+	/**
+	 * Returns to a saved position, so the tokens consumed since it are read again
+	 *
+	 * @param mark a position returned by {@link #mark()}
+	 */
+	@Override
+	public void reset(int mark) {
+		if (mark < 0 || mark > tokens.size()) {
+			throw new IndexOutOfBoundsException("mark " + mark + " of " + tokens.size());
+		}
+		pos = mark;
+	}
+
+	/**
+	 * Makes a new stream over the tokens consumed since a saved position, so
+	 * they can be read again later without copying them. The new stream allows
+	 * the same nesting as this one
+	 *
+	 * @param mark a position returned by {@link #mark()}
+	 * @return a stream positioned before the first token consumed since the mark
+	 */
+	@Override
+	public TokenStream consumedSince(int mark) {
+		if (mark < 0 || mark > pos) {
+			throw new IndexOutOfBoundsException("mark " + mark + " of " + pos);
+		}
+		return new ListTokenStream(tokens.subList(mark, pos), getMaxDepth());
+	}
+}
@@ -0,0 +1,58 @@
+package src.tokenizer;
+
+/**
+ * This class is responsible for turning the text of a NUMBER token into its
+ * value once, when the token is scanned. A literal with a '.' is a double and
+ * anything else is an int. The value of either kind is kept in a single long:
+ * the int itself, or the raw bits of the double.
+ *
+ * @author Hritik "Ricky" Gupta
+ * @author Griffin Danner-Doran
+ * @author Austin Couch
+ * @author Sam Harrell
+ */
+final class NumberLiteral {
+	private static final char DOT_CHAR = '.';
+
+	private NumberLiteral() {}
+
+	/**
+	 * @param text the characters holding the literal
+	 * @param start the index of the first character of the literal
+	 * @param end the index after the last character of the literal
+	 * @return true if the literal is a double
+	 */
+	static boolean isDouble(CharSequence text, int start, int end) {
+		for (int i = start; i < end; i++) {
+			if (text.charAt(i) == DOT_CHAR) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Parses a literal into the long that stores its value
+	 *
+	 * @param text the characters holding the literal
+	 * @param start the index of the first character of the literal
+	 * @param end the index after the last character of the literal
+	 * @param isDouble whether the literal is a double
+	 * @return the int value, or the raw bits of the double value. Ints too
+	 *         large for a long are held at Long.MAX_VALUE
+	 */
+	static long parse(CharSequence text, int start, int end, boolean isDouble) {
+		if (isDouble) {
+			return Double.doubleToRawLongBits(Double.parseDouble(text.subSequence(start, end).toString()));
+		}
+		long value = 0;
+		for (int i = start; i < end; i++) {
+			int digit = text.charAt(i) - '0';
+			if (value > (Long.MAX_VALUE - digit) / 10) {
+				return Long.MAX_VALUE;
+			}
+			value = value * 10 + digit;
+		}
+		return value;
+	}
+}
@@ -0,0 +1,140 @@
+package src.tokenizer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * This class represents one Jott source that has been tokenized. Every token
+ * from the source shares this one object and keeps only its offset into the
+ * content; line and column numbers are worked out from the offset when they
+ * are actually asked for, using an index of line starts that is built the
+ * first time it is needed.
+ *
+ * A SourceFile can also be made with a path and no content, for tokens that
+ * were built by hand with a known line number. Offsets given to such a
+ * SourceFile are taken to be line numbers already.
+ *
+ * @author Hritik "Ricky" Gupta
+ * @author Griffin Danner-Doran
+ * @author Austin Couch
+ * @author Sam Harrell
+ */
+public class SourceFile {
+	private static final char NEWLINE_CHAR = '\n';
+
+	private final String path;
+	private final CharSequence content;
+	private volatile int[] lineStarts = null;
+
+	/**
+	 * Creates a source from content that is already in memory
+	 *
+	 * @param path the name reported for this source in tokens and errors
+	 * @param content the Jott source
+	 */
+	public SourceFile(String path, CharSequence content) {
+		this.path = path;
+		this.content = content;
+	}
+
+	/**
+	 * Creates a source that only has a name
+	 *
+	 * @param path the name reported for this source in tokens and errors
+	 * @return a source with no content, whose offsets are line numbers
+	 */
+	public static SourceFile named(String path) {
+		return new SourceFile(path, null);
+	}
+
+	/**
+	 * Reads a source from a file. The bytes of the file are kept as they are
+	 * and read as ASCII, rather than being decoded into a String
+	 *
+	 * @param filename path to the file to be read
+	 * @return a source holding the full contents of the file
+	 * @throws IOException if there's an issue when reading the filename
+	 */
+	public static SourceFile read(String filename) throws IOException {
+		return new SourceFile(filename, new AsciiSource(ByteBuffer.wrap(Files.readAllBytes(Paths.get(filename)))));
+	}
+
+	/**
+	 * Creates a source over raw bytes, read as ASCII without being decoded
+	 *
+	 * @param path the name reported for this source in tokens and errors
+	 * @param bytes the Jott source, from the buffer's position to its limit.
+	 *              The bytes are not copied and must not change while in use
+	 * @return a source over the bytes
+	 */
+	public static SourceFile ofBytes(String path, ByteBuffer bytes) {
+		return new SourceFile(path, new AsciiSource(bytes.slice()));
+	}
+
+	/**
+	 * @return the name of this source
+	 */
+	public String getPath() {
+		return path;
+	}
+
+	/**
+	 * @return the content of this source, or null if it only has a name
+	 */
+	public CharSequence getContent() {
+		return content;
+	}
+
+	/**
+	 * Finds the line an offset falls on
+	 *
+	 * @param offset an offset into the content
+	 * @return the line number of the offset, starting from 1
+	 */
+	public int lineOf(int offset) {
+		if (content == null) {
+			return offset;
+		}
+		int[] starts = lineStarts();
+		int found = Arrays.binarySearch(starts, offset);
+		// a miss gives -(insertion point) - 1, and the line is the one before the insertion point
+		return found >= 0 ? found + 1 : -found - 1;
+	}
+
+	/**
+	 * Finds the column an offset falls on
+	 *
+	 * @param offset an offset into the content
+	 * @return the column of the offset, starting from 1, or 0 if this source has no content
+	 */
+	public int columnOf(int offset) {
+		if (content == null) {
+			return 0;
+		}
+		return offset - lineStarts()[lineOf(offset) - 1] + 1;
+	}
+
+	private int[] lineStarts() {
+		int[] starts = lineStarts;
+		if (starts == null) {
+			int count = 1;
+			for (int i = 0; i < content.length(); i++) {
+				if (content.charAt(i) == NEWLINE_CHAR) {
+					count++;
+				}
+			}
+			starts = new int[count];
+			int line = 1;
+			for (int i = 0; i < content.length(); i++) {
+				if (content.charAt(i) == NEWLINE_CHAR) {
+					starts[line++] = i + 1;
+				}
+			}
+			lineStarts = starts;
+		}
+		return starts;
+	}
+}
@@ -0,0 +1,198 @@
+package src.tokenizer;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+
+/**
+ * This class is responsible for handing Tokens to the parser in order as they
+ * are read from a source, such as a {@link TokenSource}, rather than from a list
+ * that already holds every token of the file.
+ *
+ * Tokens are pulled from the source only when the parser looks at them, and
+ * are kept in a window that runs from the most recent mark to the furthest
+ * token looked ahead at. Tokens before the most recent mark are let go, so
+ * memory use does not grow with the size of the file, but a reset can only
+ * return to the most recent mark or a later position.
+ *
+ * @author Hritik "Ricky" Gupta
+ * @author Griffin Danner-Doran
+ * @author Austin Couch
+ * @author Sam Harrell
+ */
+public class SourceTokenStream extends TokenStream {
+	// how many tokens must be let go before the window is shifted down
+	private static final int RELEASE_AT = 1024;
+
+	private final Iterator<Token> source;
+	private final ArrayList<Token> window = new ArrayList<>();
+	// the position of the first token in the window
+	private int base = 0;
+	private int pos = 0;
+	private int lastMark = 0;
+
+	/**
+	 * Creates a stream positioned before the first token of a source
+	 *
+	 * @param source the tokens to read, which are only read through this stream
+	 */
+	public SourceTokenStream(Iterator<Token> source) {
+		this(source, DEFAULT_MAX_DEPTH);
+	}
+
+	/**
+	 * Creates a stream positioned before the first token of a source
+	 *
+	 * @param source the tokens to read, which are only read through this stream
+	 * @param maxDepth the deepest nesting of constructs allowed, at least 1
+	 */
+	public SourceTokenStream(Iterator<Token> source, int maxDepth) {
+		super(maxDepth);
+		this.source = source;
+	}
+
+	/**
+	 * @return true if every token has been consumed
+	 */
+	@Override
+	public boolean isEmpty() {
+		return !fill(1);
+	}
+
+	/**
+	 * Reads the rest of the source into the window to count it, so
+	 * {@link #canPeek(int)} should be used to look a few tokens ahead instead
+	 *
+	 * @return the number of tokens left to consume
+	 */
+	@Override
+	public int size() {
+		while (source.hasNext()) {
+			window.add(source.next());
+		}
+		return window.size() - (pos - base);
+	}
+
+	/**
+	 * @param k how many tokens past the next one to look, 0 being the next token
+	 * @return true if there is a token k places after the next one
+	 */
+	@Override
+	public boolean canPeek(int k) {
+		return k >= 0 && fill(k + 1);
+	}
+
+	/**
+	 * Looks ahead without consuming anything
+	 *
+	 * @param k how many tokens past the next one to look, 0 being the next token
+	 * @return the token k places after the next one
+	 * @throws IndexOutOfBoundsException if there are not that many tokens left
+	 */
+	@Override
+	public Token peek(int k) {
+		if (!canPeek(k)) {
+			throw new IndexOutOfBoundsException("token " + k + " past the end of the source");
+		}
+		return window.get(pos - base + k);
+	}
+
+	/**
+	 * Consumes the next token
+	 *
+	 * @return the token that was consumed
+	 * @throws IndexOutOfBoundsException if there are no tokens left
+	 */
+	@Override
+	public Token next() {
+		Token token = peek(0);
+		pos++;
+		release();
+		return token;
+	}
+
+	/**
+	 * @return the token consumed most recently, or null if none has been
+	 */
+	@Override
+	public Token previous() {
+		return pos == 0 ? null : window.get(pos - 1 - base);
+	}
+
+	/**
+	 * @return the number of tokens consumed so far
+	 */
+	@Override
+	public int position() {
+		return pos;
+	}
+
+	/**
+	 * Saves the current position so it can be returned to, letting go of
+	 * every token before it
+	 *
+	 * @return the saved position, to be passed to {@link #reset(int)}
+	 */
+	@Override
+	public int mark() {
+		lastMark = pos;
+		return pos;
+	}
+
+	/**
+	 * Returns to a saved position, so the tokens consumed since it are read again
+	 *
+	 * @param mark the position returned by the most recent {@link #mark()}, or a later one
+	 * @throws IndexOutOfBoundsException if the tokens at that position have been let go
+	 */
+	@Override
+	public void reset(int mark) {
+		if (mark < base || mark > base + window.size()) {
+			throw new IndexOutOfBoundsException("mark " + mark + " is not held, the window starts at " + base);
+		}
+		pos = mark;
+	}
+
+	/**
+	 * Makes a new stream over the tokens consumed since a saved position. The
+	 * window changes as this stream is read, so the tokens are copied. The new
+	 * stream allows the same nesting as this one
+	 *
+	 * @param mark the position returned by the most recent {@link #mark()}, or a later one
+	 * @return a stream positioned before the first token consumed since the mark
+	 */
+	@Override
+	public TokenStream consumedSince(int mark) {
+		if (mark < base || mark > pos) {
+			throw new IndexOutOfBoundsException("mark " + mark + " is not held, the window starts at " + base);
+		}
+		return new ListTokenStream(new ArrayList<>(window.subList(mark - base, pos - base)), getMaxDepth());
+	}
+
+	/**
+	 * Reads tokens from the source until the window holds n past the current position
+	 *
+	 * @return false if the source ran out first
+	 */
+	private boolean fill(int n) {
+		while (window.size() - (pos - base) < n) {
+			if (!source.hasNext()) {
+				return false;
+			}
+			window.add(source.next());
+		}
+		return true;
+	}
+
+	/**
+	 * Lets go of the tokens before the most recent mark, keeping the last one
+	 * consumed for {@link #previous()}. They are only let go in groups, so
+	 * shifting the window down is amortized over many tokens
+	 */
+	private void release() {
+		int drop = Math.min(lastMark, pos - 1) - base;
+		if (drop >= RELEASE_AT) {
+			window.subList(0, drop).clear();
+			base += drop;
+		}
+	}
+}
@@ -8,9 +8,12 @@ package src.tokenizer;
 public class Token {
 
     private final String token;
-    private final String filename;
-    private final int lineNum;
+    private final SourceFile source;
+    private final int offset;
     private final TokenType type;
+    private final Keyword keyword;
+    private final boolean doubleLiteral;
+    private final long literal;
 
     /**
      * Creates an instance of a token
@@ -20,10 +23,32 @@ public class Token {
      * @param type the type of this token
      */
     public Token(String token, String filename, int lineNum, TokenType type) {
+        this(token, SourceFile.named(filename), lineNum, type, type == TokenType.ID_KEYWORD ? Keyword.lookup(token) : null,
+                type == TokenType.NUMBER && NumberLiteral.isDouble(token, 0, token.length()),
+                type == TokenType.NUMBER
+                        ? NumberLiteral.parse(token, 0, token.length(), NumberLiteral.isDouble(token, 0, token.length()))
+                        : 0);
+    }
+
+    /**
+     * Creates an instance of a token whose keyword and literal value are already known
+     * @param token the token string
+     * @param source the source the token came from
+     * @param offset the offset of the token in the source
+     * @param type the type of this token
+     * @param keyword the keyword this token spells, or null if it is not a keyword
+     * @param doubleLiteral true if this is a NUMBER token holding a double
+     * @param literal the value of a NUMBER token, as stored by NumberLiteral.parse
+     */
+    Token(String token, SourceFile source, int offset, TokenType type, Keyword keyword,
+          boolean doubleLiteral, long literal) {
         this.token = token;
-        this.filename = filename;
-        this.lineNum = lineNum;
+        this.source = source;
+        this.offset = offset;
         this.type = type;
+        this.keyword = keyword;
+        this.doubleLiteral = doubleLiteral;
+        this.literal = literal;
     }
 
     /**
@@ -38,14 +63,30 @@ public class Token {
      * Getter for the token file name
      * @return the token file name
      */
-    public String getFilename() { return filename; }
+    public String getFilename() { return source.getPath(); }
 
     /**
      * Getter for the token line number
      * @return the line number of the token
      */
     public int getLineNum() {
-        return lineNum;
+        return source.lineOf(offset);
+    }
+
+    /**
+     * Getter for the token column
+     * @return the column of the token's first character, or 0 if it is not known
+     */
+    public int getColumn() {
+        return source.columnOf(offset);
+    }
+
+    /**
+     * Getter for the source the token came from
+     * @return the token source
+     */
+    public SourceFile getSource() {
+        return source;
     }
 
     /**
@@ -55,4 +96,45 @@ public class Token {
     public TokenType getTokenType() {
         return type;
     }
+
+    /**
+     * Getter for the keyword this token spells
+     * @return the keyword, or null if this token is not a keyword
+     */
+    public Keyword getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * @return true if this is a NUMBER token holding an int
+     */
+    public boolean isIntLiteral() {
+        return type == TokenType.NUMBER && !doubleLiteral;
+    }
+
+    /**
+     * @return true if this is a NUMBER token holding a double
+     */
+    public boolean isDoubleLiteral() {
+        return type == TokenType.NUMBER && doubleLiteral;
+    }
+
+    /**
+     * Getter for the value of an int literal
+     * @return the value of the literal, or 0 if this is not an int literal
+     */
+    public long getIntValue() {
+        return isIntLiteral() ? literal : 0;
+    }
+
+    /**
+     * Getter for the value of a number literal as a double
+     * @return the value of the literal, or 0 if this is not a number
+     */
+    public double getDoubleValue() {
+        if (isDoubleLiteral()) {
+            return Double.longBitsToDouble(literal);
+        }
+        return isIntLiteral() ? literal : 0;
+    }
 }
@@ -0,0 +1,270 @@
+package src.tokenizer;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * This class is responsible for holding a tokenized Jott source compactly.
+ * Rather than one Token object per lexeme, each field of a token is kept in
+ * its own primitive array, and token text is read as a slice of the one
+ * shared source rather than copied into its own String.
+ *
+ * Token objects can still be made for any entry with {@link #token(int)}
+ * for code that works with them.
+ *
+ * @author Hritik "Ricky" Gupta
+ * @author Griffin Danner-Doran
+ * @author Austin Couch
+ * @author Sam Harrell
+ */
+public class TokenBuffer {
+	private static final TokenType[] TYPES = TokenType.values();
+	private static final Keyword[] KEYWORDS = Keyword.values();
+	// each kind byte holds the token type in its low bits; above them it holds
+	// the keyword of an ID_KEYWORD token, or DOUBLE_KIND for a double NUMBER token
+	private static final int KEYWORD_SHIFT = 4;
+	private static final int TYPE_MASK = (1 << KEYWORD_SHIFT) - 1;
+	private static final int DOUBLE_KIND = 1;
+	private static final int INITIAL_CAPACITY = 64;
+
+	private final SourceFile file;
+	private final CharSequence source;
+	private int size = 0;
+	private byte[] kinds;
+	private int[] start;
+	private int[] length;
+	private long[] values;
+
+	/**
+	 * Creates an empty buffer over the given source
+	 *
+	 * @param file the Jott source the tokens are taken from
+	 */
+	TokenBuffer(SourceFile file) {
+		this(file, INITIAL_CAPACITY);
+	}
+
+	/**
+	 * Creates an empty buffer over the given source with room for a number of tokens
+	 *
+	 * @param file the Jott source the tokens are taken from
+	 * @param capacity the number of tokens to make room for up front
+	 */
+	TokenBuffer(SourceFile file, int capacity) {
+		this.file = file;
+		this.source = file.getContent();
+		capacity = Math.max(capacity, 1);
+		kinds = new byte[capacity];
+		start = new int[capacity];
+		length = new int[capacity];
+		values = new long[capacity];
+	}
+
+	/**
+	 * Adds a token to the end of the buffer
+	 *
+	 * @param type the type of the token
+	 * @param keyword the keyword the token spells, or null if it is not a keyword
+	 * @param doubleLiteral true if the token is a double NUMBER
+	 * @param value the value of a NUMBER token, as stored by NumberLiteral.parse
+	 * @param tokenStart the offset of the first character of the token in the source
+	 * @param tokenLength the number of characters in the token
+	 */
+	void add(TokenType type, Keyword keyword, boolean doubleLiteral, long value, int tokenStart, int tokenLength) {
+		if (size == kinds.length) {
+			int capacity = size * 2;
+			kinds = Arrays.copyOf(kinds, capacity);
+			start = Arrays.copyOf(start, capacity);
+			length = Arrays.copyOf(length, capacity);
+			values = Arrays.copyOf(values, capacity);
+		}
+		int subKind = 0;
+		if (keyword != null) {
+			subKind = keyword.ordinal() + 1;
+		} else if (type == TokenType.NUMBER && doubleLiteral) {
+			subKind = DOUBLE_KIND;
+		}
+		kinds[size] = (byte) (type.ordinal() | subKind << KEYWORD_SHIFT);
+		values[size] = type == TokenType.NUMBER ? value : 0;
+		start[size] = tokenStart;
+		length[size] = tokenLength;
+		size++;
+	}
+
+	/**
+	 * Adds every token of another buffer over the same source to the end of this one
+	 *
+	 * @param other the buffer whose tokens come after this buffer's
+	 */
+	void addAll(TokenBuffer other) {
+		int total = size + other.size;
+		if (total > kinds.length) {
+			kinds = Arrays.copyOf(kinds, total);
+			start = Arrays.copyOf(start, total);
+			length = Arrays.copyOf(length, total);
+			values = Arrays.copyOf(values, total);
+		}
+		System.arraycopy(other.kinds, 0, kinds, size, other.size);
+		System.arraycopy(other.start, 0, start, size, other.size);
+		System.arraycopy(other.length, 0, length, size, other.size);
+		System.arraycopy(other.values, 0, values, size, other.size);
+		size = total;
+	}
+
+	/**
+	 * @return the number of tokens in the buffer
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return the source the tokens came from
+	 */
+	public SourceFile getSource() {
+		return file;
+	}
+
+	/**
+	 * @return the name of the file the tokens came from
+	 */
+	public String getFilename() {
+		return file.getPath();
+	}
+
+	/**
+	 * @param index the index of the token
+	 * @return the type of the token
+	 */
+	public TokenType type(int index) {
+		checkIndex(index);
+		return TYPES[kinds[index] & TYPE_MASK];
+	}
+
+	/**
+	 * @param index the index of the token
+	 * @return the keyword the token spells, or null if it is not a keyword
+	 */
+	public Keyword keyword(int index) {
+		if (type(index) != TokenType.ID_KEYWORD) {
+			return null;
+		}
+		int keywordId = subKind(index);
+		return keywordId == 0 ? null : KEYWORDS[keywordId - 1];
+	}
+
+	/**
+	 * @param index the index of the token
+	 * @return true if the token is a NUMBER holding a double
+	 */
+	public boolean isDoubleLiteral(int index) {
+		return type(index) == TokenType.NUMBER && subKind(index) == DOUBLE_KIND;
+	}
+
+	/**
+	 * @param index the index of the token
+	 * @return true if the token is a NUMBER holding an int
+	 */
+	public boolean isIntLiteral(int index) {
+		return type(index) == TokenType.NUMBER && subKind(index) != DOUBLE_KIND;
+	}
+
+	/**
+	 * @param index the index of the token
+	 * @return the value of an int literal, or 0 if the token is not one
+	 */
+	public long intValue(int index) {
+		return isIntLiteral(index) ? values[index] : 0;
+	}
+
+	/**
+	 * @param index the index of the token
+	 * @return the value of a number literal as a double, or 0 if the token is not a number
+	 */
+	public double doubleValue(int index) {
+		if (isDoubleLiteral(index)) {
+			return Double.longBitsToDouble(values[index]);
+		}
+		return isIntLiteral(index) ? values[index] : 0;
+	}
+
+	/**
+	 * @param index the index of the token
+	 * @return the offset of the first character of the token in the source
+	 */
+	public int start(int index) {
+		checkIndex(index);
+		return start[index];
+	}
+
+	/**
+	 * @param index the index of the token
+	 * @return the number of characters in the token
+	 */
+	public int length(int index) {
+		checkIndex(index);
+		return length[index];
+	}
+
+	/**
+	 * @param index the index of the token
+	 * @return the line number of the token
+	 */
+	public int line(int index) {
+		return file.lineOf(start(index));
+	}
+
+	/**
+	 * @param index the index of the token
+	 * @return the column of the token's first character
+	 */
+	public int column(int index) {
+		return file.columnOf(start(index));
+	}
+
+	/**
+	 * Gets the text of a token without copying it out of the source
+	 *
+	 * @param index the index of the token
+	 * @return a read only view of the token's text
+	 */
+	public CharSequence text(int index) {
+		checkIndex(index);
+		return CharBuffer.wrap(source, start[index], start[index] + length[index]);
+	}
+
+	/**
+	 * Makes a standalone Token for one entry of the buffer
+	 *
+	 * @param index the index of the token
+	 * @return a Token holding a copy of the entry
+	 */
+	public Token token(int index) {
+		checkIndex(index);
+		String text = source.subSequence(start[index], start[index] + length[index]).toString();
+		return new Token(text, file, start[index], type(index), keyword(index),
+				isDoubleLiteral(index), values[index]);
+	}
+
+	/**
+	 * @return every token in the buffer as a list of Tokens, in order
+	 */
+	public ArrayList<Token> toTokenList() {
+		ArrayList<Token> tokens = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			tokens.add(token(i));
+		}
+		return tokens;
+	}
+
+	private int subKind(int index) {
+		return (kinds[index] & 0xFF) >>> KEYWORD_SHIFT;
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("token " + index + " of " + size);
+		}
+	}
+}
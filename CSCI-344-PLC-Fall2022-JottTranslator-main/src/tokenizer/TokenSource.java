@@ -0,0 +1,116 @@
+package src.tokenizer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * This class is responsible for handing out the Tokens of a Jott file one at
+ * a time. The file is memory mapped rather than read, its bytes are scanned
+ * in place without being decoded, and each token is only scanned when it is
+ * asked for, so a consumer can start on the first tokens
+ * before the rest of the file has been looked at and memory use does not
+ * grow with the size of the file.
+ *
+ * If an invalid token is found, it is reported to System.err and the source
+ * ends early; {@link #hasError()} tells that apart from a normal end of file.
+ *
+ * @author Hritik "Ricky" Gupta
+ * @author Griffin Danner-Doran
+ * @author Austin Couch
+ * @author Sam Harrell
+ */
+public class TokenSource implements Iterator<Token>, AutoCloseable {
+
+	private final FileChannel channel;
+	private final JottScanner scanner;
+	private boolean scanned = false;
+	private boolean hasToken = false;
+
+	private TokenSource(FileChannel channel, CharSequence source, String filename) {
+		this.channel = channel;
+		this.scanner = new JottScanner(new SourceFile(filename, source));
+	}
+
+	/**
+	 * Opens a token source over a file
+	 *
+	 * @param filename the name of the file to tokenize; can be relative or absolute path
+	 * @return a token source positioned before the first token of the file
+	 * @throws IOException if the file cannot be opened or mapped
+	 */
+	public static TokenSource open(String filename) throws IOException {
+		FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ);
+		try {
+			if (channel.size() > Integer.MAX_VALUE) {
+				throw new IOException(filename + " is too large to map");
+			}
+			ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			return new TokenSource(channel, new AsciiSource(mapped), filename);
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * @return true if there is another token to read
+	 */
+	@Override
+	public boolean hasNext() {
+		if (!scanned) {
+			hasToken = scanner.next();
+			scanned = true;
+			if (!hasToken && scanner.hasError()) {
+				scanner.printError();
+			}
+		}
+		return hasToken;
+	}
+
+	/**
+	 * @return the next token of the file
+	 * @throws NoSuchElementException if there are no tokens left
+	 */
+	@Override
+	public Token next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		scanned = false;
+		return scanner.token();
+	}
+
+	/**
+	 * @return true if the source ended early because of an invalid token
+	 */
+	public boolean hasError() {
+		return scanner.hasError();
+	}
+
+	/**
+	 * @return a sequential stream over the remaining tokens of the file
+	 */
+	public Stream<Token> stream() {
+		return StreamSupport.stream(
+				Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false);
+	}
+
+	/**
+	 * Releases the file backing this source
+	 *
+	 * @throws IOException if the file cannot be closed
+	 */
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+}
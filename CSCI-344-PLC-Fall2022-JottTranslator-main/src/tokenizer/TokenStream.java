@@ -0,0 +1,137 @@
+package src.tokenizer;
+
+/**
+ * This class is responsible for handing Tokens to the parser in order, whether
+ * they come from a list that holds every token ({@link ListTokenStream}) or are
+ * read from a source as they are needed ({@link SourceTokenStream}). It keeps
+ * how deep the parser is in nested constructs, and how deep it may go, which
+ * is the same for every kind of stream.
+ *
+ * A position can be saved with {@link #mark()} and returned to with
+ * {@link #reset(int)}, so a parse can be tried ahead and then undone
+ * without copying the tokens.
+ *
+ * @author Hritik "Ricky" Gupta
+ * @author Griffin Danner-Doran
+ * @author Austin Couch
+ * @author Sam Harrell
+ */
+public abstract class TokenStream {
+	/**
+	 * The default for how deeply constructs can be nested
+	 */
+	public static final int DEFAULT_MAX_DEPTH = 500;
+
+	// how many nested constructs the parser is inside, and how many it may be
+	private int depth = 0;
+	private final int maxDepth;
+
+	/**
+	 * Creates a stream that allows constructs to be nested a given depth
+	 *
+	 * @param maxDepth the deepest nesting allowed, at least 1
+	 */
+	protected TokenStream(int maxDepth) {
+		if (maxDepth < 1) {
+			throw new IllegalArgumentException("max depth must be at least 1, got " + maxDepth);
+		}
+		this.maxDepth = maxDepth;
+	}
+
+	/**
+	 * @return true if every token has been consumed
+	 */
+	public abstract boolean isEmpty();
+
+	/**
+	 * @return the number of tokens left to consume
+	 */
+	public abstract int size();
+
+	/**
+	 * @param k how many tokens past the next one to look, 0 being the next token
+	 * @return true if there is a token k places after the next one
+	 */
+	public abstract boolean canPeek(int k);
+
+	/**
+	 * @return the next token, without consuming it
+	 * @throws IndexOutOfBoundsException if there are no tokens left
+	 */
+	public Token peek() {
+		return peek(0);
+	}
+
+	/**
+	 * Looks ahead without consuming anything
+	 *
+	 * @param k how many tokens past the next one to look, 0 being the next token
+	 * @return the token k places after the next one
+	 * @throws IndexOutOfBoundsException if there are not that many tokens left
+	 */
+	public abstract Token peek(int k);
+
+	/**
+	 * Consumes the next token
+	 *
+	 * @return the token that was consumed
+	 * @throws IndexOutOfBoundsException if there are no tokens left
+	 */
+	public abstract Token next();
+
+	/**
+	 * @return the token consumed most recently, or null if none has been
+	 */
+	public abstract Token previous();
+
+	/**
+	 * @return the number of tokens consumed so far
+	 */
+	public abstract int position();
+
+	/**
+	 * Saves the current position so it can be returned to
+	 *
+	 * @return the saved position, to be passed to {@link #reset(int)}
+	 */
+	public abstract int mark();
+
+	/**
+	 * Returns to a saved position, so the tokens consumed since it are read again
+	 *
+	 * @param mark a position returned by {@link #mark()}
+	 */
+	public abstract void reset(int mark);
+
+	/**
+	 * Makes a new stream over the tokens consumed since a saved position, so
+	 * they can be read again later. The new stream allows the same nesting as this one
+	 *
+	 * @param mark a position returned by {@link #mark()}
+	 * @return a stream positioned before the first token consumed since the mark
+	 */
+	public abstract TokenStream consumedSince(int mark);
+
+	/**
+	 * Notes that the parser has gone into a nested construct, such as a body
+	 *
+	 * @return how many nested constructs the parser is now inside
+	 */
+	public int descend() {
+		return ++depth;
+	}
+
+	/**
+	 * Notes that the parser has come back out of a construct it went into with {@link #descend()}
+	 */
+	public void ascend() {
+		depth--;
+	}
+
+	/**
+	 * @return the deepest nesting of constructs allowed while reading this stream
+	 */
+	public int getMaxDepth() {
+		return maxDepth;
+	}
+}